@@ -0,0 +1,172 @@
+package com.github.loafabreadly.franchisetracker.benchmark;
+
+import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * FranchiseFixtures builds synthetic franchises for benchmarks. Every franchise is generated from a fixed
+ * seed, so two runs of the same benchmark always measure the same data.
+ * <p>
+ * Each simulated season records a stat line for every rostered player, re-signs expired contracts,
+ * turns over part of the roster, occasionally wins a Cup, and then advances through
+ * {@link FranchiseTracker#advanceSeason()} so the history is built by the production code path.
+ */
+public final class FranchiseFixtures {
+    public static final int NHL_ROSTER_SIZE = 23;
+    public static final int AHL_ROSTER_SIZE = 25;
+    public static final int START_SEASON = 2025;
+    // League clubs carry fuller rosters, so 32 clubs and their affiliates hold about 3,000 players
+    public static final int LEAGUE_TEAM_ROSTER_SIZE = 47;
+
+    private static final String[] FIRST_NAMES = {
+        "Connor", "Auston", "Nathan", "Cale", "Quinn", "Jack", "Mitch", "Leon", "Sidney", "Adam",
+        "Brady", "Kirill", "Igor", "Juuse", "Rasmus", "Mikko", "Elias", "Jason", "Tage", "Matthew"
+    };
+    private static final String[] LAST_NAMES = {
+        "Hughes", "Makar", "Tkachuk", "Pastrnak", "Kucherov", "Draisaitl", "Matthews", "Crosby",
+        "Shesterkin", "Saros", "Dahlin", "Rantanen", "Pettersson", "Robertson", "Thompson", "Fox",
+        "Larkin", "Marner", "Eichel", "Barzal"
+    };
+    private static final PLAYER_POS[] SKATER_POSITIONS = {
+        PLAYER_POS.CENTER, PLAYER_POS.LEFT_WING, PLAYER_POS.RIGHT_WING, PLAYER_POS.LEFT_DEFENSE, PLAYER_POS.RIGHT_DEFENSE
+    };
+
+    private FranchiseFixtures() {
+    }
+
+    /**
+     * Creates a franchise that has played the given number of seasons.
+     * @param seasons Number of seasons to simulate and archive
+     * @param seed Random seed
+     * @return The franchise, positioned at the start of the season after the last archived one
+     */
+    public static FranchiseTracker create(int seasons, long seed) {
+        Random random = new Random(seed);
+        List<Player> nhlRoster = new ArrayList<>();
+        for (int i = 0; i < NHL_ROSTER_SIZE; i++) {
+            nhlRoster.add(newPlayer(random, START_SEASON, i < 2 ? PLAYER_POS.GOALIE : null, 24));
+        }
+        FranchiseTracker tracker = new FranchiseTracker("Benchmark Blues", "Benchmark Wolves",
+            nhlRoster, new ArrayList<>(), "Benchmark GM", START_SEASON);
+        for (int i = 0; i < AHL_ROSTER_SIZE; i++) {
+            tracker.addPlayerToAHL(newPlayer(random, START_SEASON, i < 2 ? PLAYER_POS.GOALIE : null, 19));
+        }
+
+        for (int season = 0; season < seasons; season++) {
+            playSeason(tracker, random);
+            tracker.advanceSeason();
+        }
+        return tracker;
+    }
+
+    /**
+     * Fills the league around a franchise with clubs and their affiliates.
+     * @param tracker The franchise
+     * @param clubs Number of NHL clubs in the league, the franchise's own included
+     * @param seed Random seed
+     */
+    public static void addLeague(FranchiseTracker tracker, int clubs, long seed) {
+        Random random = new Random(seed);
+        int year = tracker.getCurrentSeason();
+        for (int club = 1; club < clubs; club++) {
+            Team nhl = tracker.addClub("Club " + club, "Club " + club + " Affiliate");
+            Team ahl = tracker.getAffiliate(nhl);
+            for (int i = 0; i < LEAGUE_TEAM_ROSTER_SIZE; i++) {
+                tracker.addPlayerToTeam(nhl, newPlayer(random, year, i < 2 ? PLAYER_POS.GOALIE : null, 24));
+                tracker.addPlayerToTeam(ahl, newPlayer(random, year, i < 2 ? PLAYER_POS.GOALIE : null, 19));
+            }
+        }
+    }
+
+    /**
+     * Records a full season of stats and roster activity without advancing.
+     * @param tracker The franchise
+     * @param random Source of randomness
+     */
+    public static void playSeason(FranchiseTracker tracker, Random random) {
+        int year = tracker.getCurrentSeason();
+        for (Player player : tracker.getAllPlayers()) {
+            tracker.recordPlayerStats(player, newStats(random, player, year));
+            if (player.getContractYearsRemaining() <= 0) {
+                tracker.updateContract(player, newContract(random, year));
+            }
+            if (random.nextInt(4) == 0) {
+                player.setOverall(Math.min(99, player.getOverall() + random.nextInt(3)));
+            }
+        }
+
+        TeamSeasonStats teamStats = new TeamSeasonStats();
+        teamStats.setYear(year);
+        teamStats.setGamesPlayed(82);
+        teamStats.setWins(30 + random.nextInt(25));
+        teamStats.setLosses(82 - teamStats.getWins() - random.nextInt(10));
+        teamStats.setOvertimeLosses(82 - teamStats.getWins() - teamStats.getLosses());
+        teamStats.setPoints(teamStats.getWins() * 2 + teamStats.getOvertimeLosses());
+        teamStats.setGoalsFor(200 + random.nextInt(100));
+        teamStats.setGoalsAgainst(200 + random.nextInt(100));
+        tracker.setTeamStats(teamStats);
+
+        if (random.nextInt(8) == 0) {
+            Award cup = new Award();
+            cup.setAward(Award.AwardType.STANLEY_CUP);
+            cup.setRecipientType(Award.AwardCategory.TEAM);
+            tracker.recordAward(cup);
+        }
+
+        // Roster turnover: veterans leave, prospects get called up, new prospects arrive
+        List<Player> nhl = tracker.getSelectedNHLTeam().getRoster();
+        List<Player> ahl = tracker.getSelectedAHLTeam().getRoster();
+        for (int i = 0; i < 3 && nhl.size() > 2; i++) {
+            tracker.removePlayerFromNHL(nhl.get(2 + random.nextInt(nhl.size() - 2)));
+        }
+        for (int i = 0; i < 3 && ahl.size() > 2; i++) {
+            tracker.callUpPlayerFromAHL(ahl.get(2 + random.nextInt(ahl.size() - 2)));
+        }
+        for (int i = 0; i < 3; i++) {
+            tracker.addPlayerToAHL(newPlayer(random, year, null, 19));
+        }
+    }
+
+    private static Player newPlayer(Random random, int year, PLAYER_POS position, int baseAge) {
+        Player player = new Player();
+        player.setFirstName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+        player.setLastName(LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        player.setPosition(position != null ? position : SKATER_POSITIONS[random.nextInt(SKATER_POSITIONS.length)]);
+        player.setOverall(65 + random.nextInt(25));
+        player.setAge(baseAge + random.nextInt(8));
+        PLAYER_POTENTIAL[] potentials = player.isGoalie() ? PLAYER_POTENTIAL.goaliePotentials() : PLAYER_POTENTIAL.skaterPotentials();
+        player.setPotential(potentials[random.nextInt(potentials.length)]);
+        player.setPotentialAccuracy(POTENTIAL_ACCURACY.values()[random.nextInt(POTENTIAL_ACCURACY.values().length)]);
+        player.setXfactorMask(PLAYER_XFACTORS.values()[random.nextInt(PLAYER_XFACTORS.values().length)].bit());
+        player.setCareerStats(new ArrayList<>());
+        player.setContract(newContract(random, year));
+        return player;
+    }
+
+    private static Contract newContract(Random random, int year) {
+        CONTRACT_STATUS status = CONTRACT_STATUS.values()[random.nextInt(CONTRACT_STATUS.values().length)];
+        return Contract.createContract(0.775 + random.nextInt(1100) / 100.0, 1 + random.nextInt(7), year, status);
+    }
+
+    private static PlayerSeasonStats newStats(Random random, Player player, int year) {
+        PlayerSeasonStats stats = new PlayerSeasonStats();
+        stats.setYear(year);
+        stats.setGamesPlayed(40 + random.nextInt(43));
+        if (player.isGoalie()) {
+            stats.setWins(random.nextInt(40));
+            stats.setLosses(random.nextInt(30));
+            stats.setShutouts(random.nextInt(8));
+        } else {
+            stats.setGoals(random.nextInt(45));
+            stats.setAssists(random.nextInt(60));
+            stats.setPoints(stats.getGoals() + stats.getAssists());
+            stats.setPlusMinus(random.nextInt(41) - 20);
+            stats.setPenaltyMinutes(random.nextInt(80));
+        }
+        return stats;
+    }
+}
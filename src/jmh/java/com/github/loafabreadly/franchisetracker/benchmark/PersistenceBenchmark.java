@@ -0,0 +1,81 @@
+package com.github.loafabreadly.franchisetracker.benchmark;
+
+import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.model.SeasonSnapshot;
+import com.github.loafabreadly.franchisetracker.service.FranchiseDataService;
+import com.github.loafabreadly.franchisetracker.service.SaveFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures saving and loading franchises of increasing length in each save format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersistenceBenchmark {
+
+    @Param({"1", "10", "50", "100"})
+    public int seasons;
+
+    @Param({"JSON", "SMILE"})
+    public SaveFormat format;
+
+    private FranchiseTracker tracker;
+    private Path directory;
+    private String savePath;
+    private String loadPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tracker = FranchiseFixtures.create(seasons, 42L);
+        directory = Files.createTempDirectory("franchise-bench");
+        savePath = directory.resolve("save.nhl").toString();
+        loadPath = directory.resolve("load.nhl").toString();
+        FranchiseDataService.saveTeams(tracker, loadPath, format);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void saveTeams() throws IOException {
+        FranchiseDataService.saveTeams(tracker, savePath, format);
+    }
+
+    @Benchmark
+    public FranchiseTracker loadTracker() throws IOException {
+        FranchiseTracker loaded = FranchiseDataService.loadTracker(loadPath);
+        loaded.closeSeasonSegments();
+        return loaded;
+    }
+
+    @Benchmark
+    public int loadAndReadLatestSeason() throws IOException {
+        FranchiseTracker loaded = FranchiseDataService.loadTracker(loadPath);
+        try {
+            List<SeasonSnapshot> history = loaded.getSeasonHistory();
+            return history.isEmpty() ? 0 : history.get(history.size() - 1).getNhlRoster().size();
+        } finally {
+            loaded.closeSeasonSegments();
+        }
+    }
+
+    @Benchmark
+    public FranchiseDataService.CapturedFranchise captureForAutosave() throws IOException {
+        return FranchiseDataService.capture(tracker);
+    }
+}
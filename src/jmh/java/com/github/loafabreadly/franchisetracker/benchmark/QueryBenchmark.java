@@ -0,0 +1,106 @@
+package com.github.loafabreadly.franchisetracker.benchmark;
+
+import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.index.LeadersIndex;
+import com.github.loafabreadly.franchisetracker.index.StatsStore;
+import com.github.loafabreadly.franchisetracker.model.Player;
+import com.github.loafabreadly.franchisetracker.model.PlayerSeasonStats;
+import com.github.loafabreadly.franchisetracker.model.SeasonSnapshot;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the roster, cap and franchise wrap-up queries that screens run on every redraw.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryBenchmark {
+
+    @Param({"1", "10", "50", "100"})
+    public int seasons;
+
+    private FranchiseTracker tracker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tracker = FranchiseFixtures.create(seasons, 42L);
+    }
+
+    @Benchmark
+    public List<Player> getAllPlayers() {
+        return tracker.getAllPlayers();
+    }
+
+    @Benchmark
+    public List<Player> getAllPlayersAfterEdit() {
+        // An edit discards the memoized roster, so this read recomputes it
+        tracker.requestAutosave();
+        return tracker.getAllPlayers();
+    }
+
+    @Benchmark
+    public List<Player> getExpiringContracts() {
+        return tracker.getExpiringContracts(tracker.getCurrentSeason() + 1);
+    }
+
+    @Benchmark
+    public double getCapSpace() {
+        return tracker.getCapSpace();
+    }
+
+    @Benchmark
+    public long[] careerPointsLeaders() {
+        return tracker.getStatsStore().topK(StatsStore.Stat.POINTS, 15);
+    }
+
+    @Benchmark
+    public List<Player> careerPointsLeadersFromStatLines() {
+        // The comparison screen's old ranking: re-summing both careers on every comparison
+        return tracker.getAllPlayers().stream()
+            .filter(p -> p.getCareerStats() != null && !p.getCareerStats().isEmpty())
+            .sorted((a, b) -> Integer.compare(
+                b.getCareerStats().stream().mapToInt(PlayerSeasonStats::getPoints).sum(),
+                a.getCareerStats().stream().mapToInt(PlayerSeasonStats::getPoints).sum()))
+            .limit(15)
+            .toList();
+    }
+
+    @Benchmark
+    public void wrapUpLeaders(Blackhole blackhole) {
+        for (LeadersIndex.Stat stat : LeadersIndex.Stat.values()) {
+            blackhole.consume(tracker.getLeadersIndex().getLeaders(stat, LeadersIndex.TOP_K));
+        }
+    }
+
+    @Benchmark
+    public LeadersIndex wrapUpLeadersFromHistory() {
+        // The cost the leaders screen paid before the index: replaying every archived season
+        LeadersIndex index = new LeadersIndex();
+        index.rebuild(tracker.getSeasonHistory());
+        return index;
+    }
+
+    @Benchmark
+    public void wrapUpSummary(Blackhole blackhole) {
+        blackhole.consume(tracker.getStanleyCupCount());
+        blackhole.consume(tracker.getSeasonHistory().stream()
+            .sorted(Comparator.comparingInt(SeasonSnapshot::getPoints).reversed())
+            .limit(5)
+            .toList());
+    }
+
+    @Benchmark
+    public int wrapUpRosterHistory() {
+        // Touches every archived roster, rebuilding delta-encoded seasons the soft cache has dropped
+        int players = 0;
+        for (SeasonSnapshot snapshot : tracker.getSeasonHistory()) {
+            players += snapshot.getTotalPlayers();
+        }
+        return players;
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.loafabreadly.franchisetracker.benchmark;
+
+import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.model.RolloverReport;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures archiving and advancing a season on top of an existing history, for the franchise alone and
+ * for a full 32-club league. A rollover changes the whole franchise (players age, contracts run down,
+ * picks and career totals are added), so each measurement is a single shot against a franchise freshly
+ * built from the same seed for that iteration, and every iteration sees the same data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SeasonBenchmark {
+
+    @Param({"1", "10", "50", "100"})
+    public int seasons;
+
+    @Param({"1", "32"})
+    public int clubs;
+
+    private FranchiseTracker tracker;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        tracker = FranchiseFixtures.create(seasons, 42L);
+        FranchiseFixtures.addLeague(tracker, clubs, 43L);
+    }
+
+    @Benchmark
+    public RolloverReport archiveSeason() {
+        return tracker.archiveSeason();
+    }
+
+    @Benchmark
+    public RolloverReport advanceSeason() {
+        return tracker.advanceSeason();
+    }
+}
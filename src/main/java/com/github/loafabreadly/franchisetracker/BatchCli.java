@@ -0,0 +1,252 @@
+package com.github.loafabreadly.franchisetracker;
+
+import com.github.loafabreadly.franchisetracker.index.CapLedger;
+import com.github.loafabreadly.franchisetracker.index.LeadersIndex;
+import com.github.loafabreadly.franchisetracker.model.CareerTotals;
+import com.github.loafabreadly.franchisetracker.model.RolloverReport;
+import com.github.loafabreadly.franchisetracker.service.RosterCsvImporter;
+import com.github.loafabreadly.franchisetracker.service.RosterExporter;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * BatchCli runs franchise jobs against .nhl saves without starting the terminal UI, for scripted and
+ * nightly use. Every command that takes saves accepts any mix of save files and directories; a directory
+ * stands for every .nhl save in it, and all of them are processed in the same JVM. A save that fails is
+ * reported and skipped, and the exit code tells the script whether any did.
+ */
+public class BatchCli {
+    public static final int EXIT_OK = 0;
+    public static final int EXIT_FAILED = 1;
+    public static final int EXIT_USAGE = 2;
+
+    private static final String SAVE_EXTENSION = ".nhl";
+    private static final String USAGE = String.join(System.lineSeparator(),
+        "Usage: franchise-tracker [command [arguments]]",
+        "  (no command)                                  start the terminal UI",
+        "  import <save> <roster.csv>                    add the players in a roster CSV and save",
+        "  export <save> <file.csv|file.json>            export the NHL and AHL rosters",
+        "  add-club <save> <nhl team> <ahl affiliate>    track another club of the league and save",
+        "  advance <save|dir>...                         archive the season, advance to the next and save",
+        "  cap-report <save|dir>...                      print the cap summary and upcoming expirations",
+        "  leaders [--stat STAT] [--top N] <save|dir>... print the all-time leaders (default POINTS, top " + LeadersIndex.TOP_K + ")",
+        "  help                                          print this message");
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a CLI that writes reports to one stream and errors to another.
+     * @param out Receives reports
+     * @param err Receives usage and per-save errors
+     */
+    public BatchCli(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs one command.
+     * @param args The command and its arguments
+     * @return {@link #EXIT_OK}, {@link #EXIT_FAILED} if any save failed, or {@link #EXIT_USAGE}
+     */
+    public int run(String[] args) {
+        if (args.length == 0) {
+            return usage("No command given");
+        }
+        if (args[0].equals("help") || args[0].equals("--help")) {
+            out.println(USAGE);
+            return EXIT_OK;
+        }
+        List<String> rest = List.of(args).subList(1, args.length);
+        try {
+            return switch (args[0]) {
+                case "import" -> importRoster(rest);
+                case "export" -> exportRoster(rest);
+                case "add-club" -> addClub(rest);
+                case "advance" -> forEachSave(rest, this::advance);
+                case "cap-report" -> forEachSave(rest, this::capReport);
+                case "leaders" -> leaders(rest);
+                default -> usage("Unknown command: " + args[0]);
+            };
+        } catch (IOException e) {
+            err.println("Unable to list saves: " + e.getMessage());
+            return EXIT_FAILED;
+        }
+    }
+
+    private int importRoster(List<String> args) {
+        if (args.size() != 2) {
+            return usage("import takes a save and a roster CSV");
+        }
+        return withSave(Path.of(args.get(0)), tracker -> {
+            RosterCsvImporter.ImportReport report = RosterCsvImporter.importRoster(tracker, args.get(1));
+            tracker.saveFranchise(tracker.getSaveFilePath());
+            out.println(tracker.getSaveFilePath() + ": imported " + report.getImported() + " players");
+            for (RosterCsvImporter.RowError error : report.getErrors()) {
+                err.println(tracker.getSaveFilePath() + ": skipped " + error);
+            }
+        });
+    }
+
+    private int exportRoster(List<String> args) {
+        if (args.size() != 2) {
+            return usage("export takes a save and an output file");
+        }
+        String target = args.get(1);
+        boolean json = target.toLowerCase(Locale.ROOT).endsWith(".json");
+        return withSave(Path.of(args.get(0)), tracker -> {
+            if (json) {
+                RosterExporter.exportJson(tracker, target);
+            } else {
+                RosterExporter.exportCsv(tracker, target);
+            }
+            out.println(tracker.getSaveFilePath() + ": exported " + tracker.getAllPlayers().size() + " players to " + target);
+        });
+    }
+
+    private int addClub(List<String> args) {
+        if (args.size() != 3) {
+            return usage("add-club takes a save, an NHL team name and an AHL affiliate name");
+        }
+        return withSave(Path.of(args.get(0)), tracker -> {
+            tracker.addClub(args.get(1), args.get(2));
+            tracker.saveFranchise(tracker.getSaveFilePath());
+            out.println(tracker.getSaveFilePath() + ": now tracking " + tracker.getClubs().size() + " clubs");
+        });
+    }
+
+    private void advance(FranchiseTracker tracker) throws IOException {
+        if (tracker.isFranchiseCompleted()) {
+            throw new IOException("the franchise is already completed");
+        }
+        RolloverReport report = tracker.advanceSeason();
+        tracker.saveFranchise(tracker.getSaveFilePath());
+        out.println(tracker.getSaveFilePath() + ": advanced " + report.getSeason() + " -> " + tracker.getCurrentSeason());
+        out.println("  " + report.summary());
+    }
+
+    private void capReport(FranchiseTracker tracker) {
+        CapLedger ledger = tracker.getCapLedger();
+        int season = tracker.getCurrentSeason();
+        out.println(String.format("%s: %s %d, cap hit $%.2fM of $%.1fM (space $%.2fM, floor $%.1fM)",
+            tracker.getSaveFilePath(), teamName(tracker), season, tracker.getTotalCapHit(),
+            tracker.getCapCeiling(), tracker.getCapSpace(), tracker.getCapFloor()));
+        for (int year = season; year <= season + 3; year++) {
+            out.println(String.format("  expiring %d: %d players, $%.2fM",
+                year, ledger.getExpiringIds(year).size(), ledger.getExpiringCapHit(year)));
+        }
+    }
+
+    private int leaders(List<String> args) throws IOException {
+        LeadersIndex.Stat stat = LeadersIndex.Stat.POINTS;
+        int top = LeadersIndex.TOP_K;
+        List<String> saves = new ArrayList<>();
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            if ((arg.equals("--stat") || arg.equals("--top")) && i + 1 == args.size()) {
+                return usage(arg + " needs a value");
+            }
+            try {
+                if (arg.equals("--stat")) {
+                    stat = LeadersIndex.Stat.valueOf(args.get(++i).toUpperCase(Locale.ROOT).replace('-', '_'));
+                } else if (arg.equals("--top")) {
+                    top = Integer.parseInt(args.get(++i));
+                    if (top < 1 || top > LeadersIndex.TOP_K) {
+                        return usage("--top must be between 1 and " + LeadersIndex.TOP_K);
+                    }
+                } else {
+                    saves.add(arg);
+                }
+            } catch (IllegalArgumentException e) {
+                return usage("Invalid value for " + arg + ": " + args.get(i));
+            }
+        }
+        LeadersIndex.Stat rankBy = stat;
+        int limit = top;
+        return forEachSave(saves, tracker -> {
+            out.println(tracker.getSaveFilePath() + ": all-time " + rankBy + " leaders");
+            List<CareerTotals> leaders = tracker.getLeadersIndex().getLeaders(rankBy, limit);
+            for (int i = 0; i < leaders.size(); i++) {
+                out.println(String.format("  %2d. %-24s %d", i + 1, leaders.get(i).getName(), rankBy.of(leaders.get(i))));
+            }
+            if (leaders.isEmpty()) {
+                out.println("  No archived seasons yet");
+            }
+        });
+    }
+
+    private int forEachSave(List<String> args, SaveJob job) throws IOException {
+        if (args.isEmpty()) {
+            return usage("No saves given");
+        }
+        int exitCode = EXIT_OK;
+        for (Path save : expandSaves(args)) {
+            exitCode = Math.max(exitCode, withSave(save, job));
+        }
+        return exitCode;
+    }
+
+    private int withSave(Path save, SaveJob job) {
+        FranchiseTracker tracker = null;
+        try {
+            tracker = new FranchiseTracker().loadFranchise(save.toString());
+            job.run(tracker);
+            return EXIT_OK;
+        } catch (IOException | RuntimeException e) {
+            err.println(save + ": " + e.getMessage());
+            return EXIT_FAILED;
+        } finally {
+            if (tracker != null) {
+                tracker.closeSeasonSegments();
+            }
+        }
+    }
+
+    /**
+     * Expands directories into the .nhl saves they contain, sorted by name; files are kept as given.
+     */
+    private static List<Path> expandSaves(List<String> args) throws IOException {
+        List<Path> saves = new ArrayList<>();
+        for (String arg : args) {
+            Path path = Path.of(arg);
+            if (!Files.isDirectory(path)) {
+                saves.add(path);
+                continue;
+            }
+            List<Path> found = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(path, "*" + SAVE_EXTENSION)) {
+                for (Path entry : entries) {
+                    if (Files.isRegularFile(entry)) {
+                        found.add(entry);
+                    }
+                }
+            }
+            found.sort(null);
+            saves.addAll(found);
+        }
+        return saves;
+    }
+
+    private static String teamName(FranchiseTracker tracker) {
+        return tracker.getSelectedNHLTeam() != null ? tracker.getSelectedNHLTeam().getName() : "(no team)";
+    }
+
+    private int usage(String message) {
+        err.println(message);
+        err.println(USAGE);
+        return EXIT_USAGE;
+    }
+
+    @FunctionalInterface
+    private interface SaveJob {
+        void run(FranchiseTracker tracker) throws IOException;
+    }
+}
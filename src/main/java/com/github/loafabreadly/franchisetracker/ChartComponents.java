@@ -2,13 +2,36 @@ package com.github.loafabreadly.franchisetracker;
 
 import com.mitchtalmadge.asciidata.graph.ASCIIGraph;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.DecimalFormatSymbols;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * ChartComponents provides utility methods for creating ASCII charts and graphs
  * for use in Lanterna TUI displays.
+ * <p>
+ * Every chart can be rendered into any {@link Appendable}, such as a reused StringBuilder or a
+ * {@link java.nio.CharBuffer} over a char array, without formatting each row through an intermediate String.
+ * The {@code cached} variants keep recently rendered charts keyed by their data, so a screen that is
+ * reopened with unchanged data reuses the chart it drew last time.
  */
 public class ChartComponents {
+    private static final char[] SPARK_CHARS = {'▁', '▂', '▃', '▄', '▅', '▆', '▇', '█'};
+    private static final char BAR_CHAR = '█';
+    private static final int HISTOGRAM_BAR_WIDTH = 20;
+    private static final int CACHE_SIZE = 32;
+
+    private static final Map<ChartKey, String> renderCache = new LinkedHashMap<>(CACHE_SIZE * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ChartKey, String> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
 
     /**
      * Creates a line graph from a series of data points.
@@ -17,16 +40,7 @@ public class ChartComponents {
      * @return String representation of the line graph
      */
     public static String createLineGraph(double[] data, int height) {
-        if (data == null || data.length == 0) {
-            return "No data available";
-        }
-        try {
-            return ASCIIGraph.fromSeries(data)
-                .withNumRows(height)
-                .plot();
-        } catch (Exception e) {
-            return "Unable to generate graph: " + e.getMessage();
-        }
+        return render(out -> appendLineGraph(data, height, out));
     }
 
     /**
@@ -39,8 +53,28 @@ public class ChartComponents {
         if (data == null || data.isEmpty()) {
             return "No data available";
         }
-        double[] doubleData = data.stream().mapToDouble(Integer::doubleValue).toArray();
-        return createLineGraph(doubleData, height);
+        return createLineGraph(toDoubles(toInts(data)), height);
+    }
+
+    /**
+     * Renders a line graph into the given output.
+     * @param data The data points to plot
+     * @param height The height of the graph in lines
+     * @param out Where to write the graph
+     * @throws IOException if the output cannot be written
+     */
+    public static void appendLineGraph(double[] data, int height, Appendable out) throws IOException {
+        if (data == null || data.length == 0) {
+            out.append("No data available");
+            return;
+        }
+        try {
+            out.append(ASCIIGraph.fromSeries(data)
+                .withNumRows(height)
+                .plot());
+        } catch (RuntimeException e) {
+            out.append("Unable to generate graph: ").append(String.valueOf(e.getMessage()));
+        }
     }
 
     /**
@@ -51,14 +85,25 @@ public class ChartComponents {
      * @return String representation of the bar chart
      */
     public static String createHorizontalBarChart(String[] labels, double[] values, int maxWidth) {
+        return render(out -> appendHorizontalBarChart(labels, values, maxWidth, out));
+    }
+
+    /**
+     * Renders a horizontal bar chart into the given output, one bar per line.
+     * @param labels The labels for each bar
+     * @param values The values for each bar
+     * @param maxWidth The maximum width of the bars
+     * @param out Where to write the chart
+     * @throws IOException if the output cannot be written
+     */
+    public static void appendHorizontalBarChart(String[] labels, double[] values, int maxWidth, Appendable out) throws IOException {
         if (labels == null || values == null || labels.length == 0 || values.length == 0) {
-            return "No data available";
+            out.append("No data available");
+            return;
         }
 
-        StringBuilder sb = new StringBuilder();
         double maxValue = 0;
         int maxLabelLen = 0;
-
         for (double v : values) {
             maxValue = Math.max(maxValue, v);
         }
@@ -66,13 +111,16 @@ public class ChartComponents {
             maxLabelLen = Math.max(maxLabelLen, label.length());
         }
 
+        char decimalSeparator = decimalSeparator();
         for (int i = 0; i < labels.length && i < values.length; i++) {
             int barLen = maxValue > 0 ? (int) ((values[i] / maxValue) * maxWidth) : 0;
-            String bar = "█".repeat(Math.max(0, barLen));
-            sb.append(String.format("%" + maxLabelLen + "s │%s %.1f\n", labels[i], bar, values[i]));
+            appendRepeated(' ', maxLabelLen - labels[i].length(), out);
+            out.append(labels[i]).append(" │");
+            appendRepeated(BAR_CHAR, barLen, out);
+            out.append(' ');
+            appendTenths(values[i], decimalSeparator, out);
+            out.append('\n');
         }
-
-        return sb.toString();
     }
 
     /**
@@ -81,42 +129,81 @@ public class ChartComponents {
      * @return A single-line sparkline representation
      */
     public static String createSparkline(double[] data) {
-        if (data == null || data.length == 0) {
+        return render(out -> appendSparkline(data, out));
+    }
+
+    /**
+     * Creates a sparkline from a list of integers.
+     * @param data The data points
+     * @return A single-line sparkline representation
+     */
+    public static String createSparkline(List<Integer> data) {
+        if (data == null || data.isEmpty()) {
             return "";
         }
+        int[] values = toInts(data);
+        return render(out -> appendSparkline(values, values.length, out));
+    }
+
+    /**
+     * Renders a sparkline into the given output.
+     * @param data The data points
+     * @param out Where to write the sparkline
+     * @throws IOException if the output cannot be written
+     */
+    public static void appendSparkline(double[] data, Appendable out) throws IOException {
+        if (data == null || data.length == 0) {
+            return;
+        }
 
-        char[] sparkChars = {'▁', '▂', '▃', '▄', '▅', '▆', '▇', '█'};
         double min = Double.MAX_VALUE;
         double max = Double.MIN_VALUE;
-
         for (double v : data) {
             min = Math.min(min, v);
             max = Math.max(max, v);
         }
 
-        StringBuilder sb = new StringBuilder();
         double range = max - min;
-
         for (double v : data) {
-            int index = range > 0 ? (int) (((v - min) / range) * 7) : 0;
-            index = Math.max(0, Math.min(7, index));
-            sb.append(sparkChars[index]);
+            out.append(sparkChar(range > 0 ? (v - min) / range : 0));
         }
+    }
 
-        return sb.toString();
+    /**
+     * Renders a sparkline of the first {@code length} values into the given output.
+     * @param data The data points
+     * @param length How many leading values of data to plot
+     * @param out Where to write the sparkline
+     * @throws IOException if the output cannot be written
+     */
+    public static void appendSparkline(int[] data, int length, Appendable out) throws IOException {
+        if (data == null || length <= 0) {
+            return;
+        }
+
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, data[i]);
+            max = Math.max(max, data[i]);
+        }
+
+        double range = (double) max - min;
+        for (int i = 0; i < length; i++) {
+            out.append(sparkChar(range > 0 ? (data[i] - min) / range : 0));
+        }
     }
 
     /**
-     * Creates a sparkline from a list of integers.
+     * Gets a sparkline for the data, reusing the last rendering of identical data.
      * @param data The data points
      * @return A single-line sparkline representation
      */
-    public static String createSparkline(List<Integer> data) {
-        if (data == null || data.isEmpty()) {
+    public static String cachedSparkline(int[] data) {
+        if (data == null || data.length == 0) {
             return "";
         }
-        double[] doubleData = data.stream().mapToDouble(Integer::doubleValue).toArray();
-        return createSparkline(doubleData);
+        return cached(new ChartKey("sparkline", 0, data), out -> appendSparkline(data, data.length, out));
     }
 
     /**
@@ -144,8 +231,20 @@ public class ChartComponents {
      * @return String representation of the histogram
      */
     public static String createAgeHistogram(int[] ages, int bucketSize) {
+        return render(out -> appendAgeHistogram(ages, bucketSize, out));
+    }
+
+    /**
+     * Renders an age distribution histogram into the given output, one bucket per line.
+     * @param ages Array of ages
+     * @param bucketSize Size of each age bucket
+     * @param out Where to write the histogram
+     * @throws IOException if the output cannot be written
+     */
+    public static void appendAgeHistogram(int[] ages, int bucketSize, Appendable out) throws IOException {
         if (ages == null || ages.length == 0) {
-            return "No data available";
+            out.append("No data available");
+            return;
         }
 
         int minAge = Integer.MAX_VALUE;
@@ -157,10 +256,8 @@ public class ChartComponents {
 
         int numBuckets = ((maxAge - minAge) / bucketSize) + 1;
         int[] buckets = new int[numBuckets];
-        
         for (int age : ages) {
-            int bucketIndex = (age - minAge) / bucketSize;
-            buckets[bucketIndex]++;
+            buckets[(age - minAge) / bucketSize]++;
         }
 
         int maxCount = 0;
@@ -168,17 +265,160 @@ public class ChartComponents {
             maxCount = Math.max(maxCount, count);
         }
 
-        StringBuilder sb = new StringBuilder();
-        int barWidth = 20;
-
         for (int i = 0; i < numBuckets; i++) {
             int rangeStart = minAge + (i * bucketSize);
             int rangeEnd = rangeStart + bucketSize - 1;
-            int barLen = maxCount > 0 ? (buckets[i] * barWidth) / maxCount : 0;
-            String bar = "█".repeat(barLen);
-            sb.append(String.format("%2d-%2d │%s %d\n", rangeStart, rangeEnd, bar, buckets[i]));
+            int barLen = maxCount > 0 ? (buckets[i] * HISTOGRAM_BAR_WIDTH) / maxCount : 0;
+            appendInt(rangeStart, 2, out);
+            out.append('-');
+            appendInt(rangeEnd, 2, out);
+            out.append(" │");
+            appendRepeated(BAR_CHAR, barLen, out);
+            out.append(' ');
+            appendInt(buckets[i], 0, out);
+            out.append('\n');
+        }
+    }
+
+    /**
+     * Gets an age histogram, reusing the last rendering of the same ages in the same order.
+     * @param ages Array of ages
+     * @param bucketSize Size of each age bucket
+     * @return String representation of the histogram
+     */
+    public static String cachedAgeHistogram(int[] ages, int bucketSize) {
+        return cached(new ChartKey("ageHistogram", bucketSize, ages), out -> appendAgeHistogram(ages, bucketSize, out));
+    }
+
+    private static String cached(ChartKey key, Rendering rendering) {
+        synchronized (renderCache) {
+            String chart = renderCache.get(key);
+            if (chart == null) {
+                chart = render(rendering);
+                // The caller keeps its array, so the key holds a copy that cannot change underneath the cache
+                renderCache.put(key.copy(), chart);
+            }
+            return chart;
+        }
+    }
+
+    private static char sparkChar(double ratio) {
+        int index = (int) (ratio * 7);
+        return SPARK_CHARS[Math.max(0, Math.min(7, index))];
+    }
+
+    private static void appendRepeated(char c, int count, Appendable out) throws IOException {
+        for (int i = 0; i < count; i++) {
+            out.append(c);
+        }
+    }
+
+    /**
+     * Writes a whole number right-aligned to the given width, as {@code %<width>d} would.
+     */
+    private static void appendInt(long value, int width, Appendable out) throws IOException {
+        boolean negative = value < 0;
+        long magnitude = Math.abs(value);
+        long divisor = 1;
+        int digits = 1;
+        while (magnitude / divisor >= 10) {
+            divisor *= 10;
+            digits++;
+        }
+        appendRepeated(' ', width - digits - (negative ? 1 : 0), out);
+        if (negative) {
+            out.append('-');
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.append((char) ('0' + (magnitude / divisor) % 10));
         }
+    }
+
+    /**
+     * Writes a value with one decimal place, as {@code %.1f} would apart from exact half-tenth ties.
+     */
+    private static void appendTenths(double value, char decimalSeparator, Appendable out) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            out.append(String.format("%.1f", value));
+            return;
+        }
+        long tenths = Math.round(Math.abs(value) * 10);
+        if (Double.doubleToRawLongBits(value) < 0) {
+            out.append('-');
+        }
+        appendInt(tenths / 10, 0, out);
+        out.append(decimalSeparator);
+        out.append((char) ('0' + tenths % 10));
+    }
+
+    private static char decimalSeparator() {
+        return DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+    }
+
+    private static int[] toInts(List<Integer> data) {
+        int[] values = new int[data.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = data.get(i);
+        }
+        return values;
+    }
 
+    private static double[] toDoubles(int[] data) {
+        double[] values = new double[data.length];
+        for (int i = 0; i < data.length; i++) {
+            values[i] = data[i];
+        }
+        return values;
+    }
+
+    private static String render(Rendering rendering) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            rendering.render(sb);
+        } catch (IOException e) {
+            // Declared by Appendable; a StringBuilder never throws it
+            throw new UncheckedIOException(e);
+        }
         return sb.toString();
     }
+
+    @FunctionalInterface
+    private interface Rendering {
+        void render(Appendable out) throws IOException;
+    }
+
+    /**
+     * Identifies a rendered chart by its kind, its parameter and the exact data it plots.
+     */
+    private static final class ChartKey {
+        private final String kind;
+        private final int parameter;
+        private final int[] data;
+        private final int hash;
+
+        private ChartKey(String kind, int parameter, int[] data) {
+            this.kind = kind;
+            this.parameter = parameter;
+            this.data = data != null ? data : new int[0];
+            this.hash = 31 * (31 * kind.hashCode() + parameter) + Arrays.hashCode(this.data);
+        }
+
+        private ChartKey copy() {
+            return new ChartKey(kind, parameter, data.clone());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ChartKey other)) {
+                return false;
+            }
+            return hash == other.hash && parameter == other.parameter && kind.equals(other.kind)
+                && Arrays.equals(data, other.data);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
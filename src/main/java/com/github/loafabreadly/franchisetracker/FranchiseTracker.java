@@ -1,10 +1,23 @@
 package com.github.loafabreadly.franchisetracker;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.github.loafabreadly.franchisetracker.index.CapLedger;
+import com.github.loafabreadly.franchisetracker.index.LeadersIndex;
+import com.github.loafabreadly.franchisetracker.index.NameIndex;
+import com.github.loafabreadly.franchisetracker.index.PlayerRegistry;
+import com.github.loafabreadly.franchisetracker.index.PlayerTimeline;
+import com.github.loafabreadly.franchisetracker.index.QueryCache;
+import com.github.loafabreadly.franchisetracker.index.StatsStore;
 import com.github.loafabreadly.franchisetracker.model.*;
+import com.github.loafabreadly.franchisetracker.service.AutosaveService;
 import com.github.loafabreadly.franchisetracker.service.FranchiseDataService;
+import com.github.loafabreadly.franchisetracker.service.SaveFormat;
+import com.github.loafabreadly.franchisetracker.service.SeasonSegmentStore;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
 
 import java.util.*;
 import java.io.IOException;
@@ -12,6 +25,11 @@ import java.io.IOException;
 /**
  * FranchiseTracker manages the state of a hockey franchise, including teams, draft picks, awards, stats, and trades.
  * Provides methods for saving and loading franchise data.
+ * <p>
+ * The franchise manages one NHL team and its AHL affiliate, the selected teams. {@link #getTeams()} may also
+ * hold the other clubs of the league and their affiliates; they age, run down their contracts and are
+ * summarized in the season archive along with the franchise, but only the selected teams' players are
+ * indexed for the cap, stats and roster screens.
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -29,18 +47,67 @@ public class FranchiseTracker {
     
     // Season archiving
     private List<SeasonSnapshot> seasonHistory = new ArrayList<>();
+    // Saved explicitly by the save codec as its career totals
+    private transient LeadersIndex leadersIndex = new LeadersIndex();
+    // Built from the history on first use and kept up with it after that
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient PlayerTimeline playerTimeline = new PlayerTimeline();
     
     // Cap management
     private double capCeiling = 88.0; // Default NHL cap ceiling in millions
     private double capFloor = 65.0;
     
     // Future draft picks inventory
-    private List<DraftPick> futureDraftPicks = new ArrayList<>();
+    private List<DraftPick> futureDraftPicks = new SnapshotList<>();
     
     // Franchise completion status
     private boolean franchiseCompleted = false;
     private int franchiseCompletedSeason;
 
+    // Player identity
+    private long nextPlayerId = 1;
+    private transient PlayerRegistry playerRegistry = new PlayerRegistry();
+    private transient CapLedger capLedger = new CapLedger();
+    private transient StatsStore statsStore = new StatsStore();
+
+    // Save file binding for background autosave
+    private transient String saveFilePath;
+    private transient SaveFormat saveFormat = SaveFormat.JSON;
+    private transient AutosaveService autosaveService;
+    // The save this tracker was loaded from or last written as; its journal must name the same id
+    private transient long checkpointId;
+    // Season bodies in the save file this tracker was loaded from or last saved to
+    private transient SeasonSegmentStore seasonSegments;
+    // What loading the save file took, such as the heap saved by sharing strings; null for a new franchise
+    private transient String loadSummary;
+
+    // Derived queries, memoized until the next change to the franchise
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient QueryCache queries = new QueryCache();
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient QueryCache.Memo<List<Player>> allPlayersQuery = queries.memo(this::findAllPlayers);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient QueryCache.Memo<List<Player>> prospectsQuery = queries.memo(this::findProspects);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient QueryCache.Memo<List<DraftedPlayer>> unsignedDrafteesQuery = queries.memo(this::findUnsignedDraftees);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient QueryCache.Memo<Integer> stanleyCupQuery = queries.memo(this::countStanleyCups);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient QueryCache.IntMemo<List<Player>> expiringContractsQuery = queries.memoByInt(this::findExpiringContracts);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient QueryCache.IntMemo<List<DraftPick>> draftPicksForYearQuery = queries.memoByInt(this::findDraftPicksForYear);
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient QueryCache.Memo<NameIndex> rosterNamesQuery = queries.memo(this::indexRosterNames);
+
     /**
      * Default constructor for FranchiseTracker.
      */
@@ -66,6 +133,8 @@ public class FranchiseTracker {
         selectedNHLTeam.setLineup(new Lineup());
         selectedNHLTeam.setIsAHL(false);
         selectedNHLTeam.setDraftPicks(new ArrayList<>());
+        selectedNHLTeam.setAffiliate(ahlTeamName);
+        selectedNHLTeam.setManaged(true);
         this.generalManagerName = generalManagerName;
         this.currentSeason = currentSeason;
 
@@ -77,10 +146,13 @@ public class FranchiseTracker {
         selectedAHLTeam.setLineup(new Lineup());
         selectedAHLTeam.setIsAHL(true);
         selectedAHLTeam.setDraftPicks(new ArrayList<>());
+        selectedAHLTeam.setAffiliate(nhlTeamName);
+        selectedAHLTeam.setManaged(true);
 
         teams.clear();
         teams.add(selectedNHLTeam);
         teams.add(selectedAHLTeam);
+        rebuildPlayerRegistry();
         
         initializeFutureDraftPicks();
     }
@@ -90,7 +162,7 @@ public class FranchiseTracker {
      */
     private void initializeFutureDraftPicks() {
         if (futureDraftPicks == null) {
-            futureDraftPicks = new ArrayList<>();
+            futureDraftPicks = new SnapshotList<>();
         }
         if (futureDraftPicks.isEmpty()) {
             for (int year = currentSeason; year <= currentSeason + 5; year++) {
@@ -121,6 +193,7 @@ public class FranchiseTracker {
      */
     public void saveFranchise(String filePath) throws IOException {
         FranchiseDataService.saveTeams(this, filePath);
+        saveFilePath = filePath;
     }
 
     /**
@@ -132,96 +205,575 @@ public class FranchiseTracker {
     public FranchiseTracker loadFranchise(String filePath) throws IOException {
         FranchiseTracker loadedTracker = FranchiseDataService.loadTracker(filePath);
         loadedTracker.restoreTeamReferences();
+        loadedTracker.setSaveFilePath(filePath);
         return loadedTracker;
     }
 
     /**
-     * Restores transient team references from the teams list after deserialization.
+     * Notifies the autosave service, if one is attached, that the franchise has changed, and discards
+     * memoized query results. Cheap enough to call after every edit; rapid calls collapse into a single
+     * background write. Every edit made outside this class must end with this call. Edits made through
+     * this class's own methods are journaled instead, which is far cheaper than a full save.
+     */
+    public void requestAutosave() {
+        markChanged();
+        if (autosaveService != null) {
+            autosaveService.requestSave();
+        }
+    }
+
+    /**
+     * @return A counter that changes whenever the franchise does, for screens that keep derived views
+     */
+    public long getModelVersion() {
+        return queries.getVersion();
+    }
+
+    private void markChanged() {
+        queries.invalidate();
+    }
+
+    /**
+     * Records an edit this class has just applied in the save's journal, if an autosave service is attached.
+     */
+    private void journal(JournalEntry entry) {
+        markChanged();
+        if (autosaveService != null) {
+            autosaveService.record(entry);
+        }
+    }
+
+    /**
+     * Re-applies journaled edits, oldest first, on top of the checkpoint this tracker was just loaded from.
+     * Journaled players are copies, so they are matched to the rostered players by id. An edit to a player
+     * who is no longer rostered cannot be applied and is counted instead.
+     * @param entries The edits read from the save's journal
+     * @return How many edits were skipped because their player is not on the NHL or AHL roster
+     */
+    public int replayJournal(List<JournalEntry> entries) {
+        restoreTeamReferences();
+        int skipped = 0;
+        for (JournalEntry entry : entries) {
+            switch (entry.getType()) {
+                case ADD_PLAYER -> {
+                    if (Boolean.TRUE.equals(entry.getAhl())) {
+                        addPlayerToAHL(entry.getPlayer());
+                    } else {
+                        addPlayerToNHL(entry.getPlayer());
+                    }
+                }
+                case REMOVE_PLAYER -> {
+                    Player player = getPlayer(entry.getPlayerId());
+                    if (player == null) {
+                        skipped++;
+                    } else {
+                        unregisterPlayer(player, getTeamOf(player));
+                    }
+                }
+                case MOVE_PLAYER -> {
+                    Player player = getPlayer(entry.getPlayerId());
+                    if (player == null) {
+                        skipped++;
+                    } else if (Boolean.TRUE.equals(entry.getAhl())) {
+                        sendPlayerToAHL(player);
+                    } else {
+                        callUpPlayerFromAHL(player);
+                    }
+                }
+                case UPDATE_PLAYER -> {
+                    if (!replacePlayer(entry.getPlayer())) {
+                        skipped++;
+                    }
+                }
+                case RECORD_TRADE -> recordTrade(entry.getTrade());
+                case RECORD_AWARD -> recordAward(entry.getAward());
+                case RECORD_DRAFT_PICK -> recordDraftPick(entry.getDraftee());
+                case ADVANCE_SEASON -> advanceSeason();
+                case COMPLETE_FRANCHISE -> completeFranchise();
+            }
+        }
+        // Draftees and lineups replayed as copies are re-pointed at the rostered players
+        rebuildPlayerRegistry();
+        return skipped;
+    }
+
+    /**
+     * Swaps a rostered player for an edited copy with the same id, keeping their place on the roster.
+     * @return Whether a rostered player had that id
+     */
+    private boolean replacePlayer(Player updated) {
+        Player current = getPlayer(updated.getId());
+        Team team = current != null ? getTeamOf(current) : null;
+        if (team == null) {
+            return false;
+        }
+        List<Player> roster = team.getRoster();
+        int index = 0;
+        while (roster.get(index) != current) {
+            index++;
+        }
+        unregisterPlayer(current, team);
+        registerPlayer(updated, team);
+        roster.add(index, updated);
+        return true;
+    }
+
+    /**
+     * Replaces the future draft pick inventory, keeping it as a {@link SnapshotList}.
+     * @param futureDraftPicks The picks
+     */
+    public void setFutureDraftPicks(List<DraftPick> futureDraftPicks) {
+        this.futureDraftPicks = SnapshotList.of(futureDraftPicks);
+        markChanged();
+    }
+
+    /**
+     * Replaces the drafted players.
+     * @param draftPicks The drafted players
+     */
+    public void setDraftPicks(List<DraftedPlayer> draftPicks) {
+        this.draftPicks = draftPicks;
+        markChanged();
+    }
+
+    /**
+     * Replaces the archived seasons.
+     * @param seasonHistory The seasons, oldest first
+     */
+    public void setSeasonHistory(List<SeasonSnapshot> seasonHistory) {
+        this.seasonHistory = seasonHistory;
+        markChanged();
+    }
+
+    /**
+     * Closes the save file that season rosters are loaded from. Call once the tracker is no longer in use;
+     * archived rosters that were never loaded cannot be read afterwards.
+     */
+    public void closeSeasonSegments() {
+        if (seasonSegments != null) {
+            try {
+                seasonSegments.close();
+            } catch (IOException e) {
+                // Nothing was written through the file, so a failed close loses nothing
+            }
+            seasonSegments = null;
+        }
+    }
+
+    /**
+     * Restores transient team references from the teams list after deserialization. Saves from before
+     * league clubs were tracked hold only the managed teams, which are then the first of each league.
      */
     private void restoreTeamReferences() {
+        selectedNHLTeam = null;
+        selectedAHLTeam = null;
+        for (Team team : teams) {
+            if (team.isManaged()) {
+                if (team.isAHL()) {
+                    selectedAHLTeam = team;
+                } else {
+                    selectedNHLTeam = team;
+                }
+            }
+        }
         for (Team team : teams) {
-            if (team.isAHL()) {
+            if (team.isAHL() && selectedAHLTeam == null) {
                 selectedAHLTeam = team;
-            } else {
+                team.setManaged(true);
+            } else if (!team.isAHL() && selectedNHLTeam == null) {
                 selectedNHLTeam = team;
+                team.setManaged(true);
             }
         }
+        markChanged();
+        rebuildPlayerRegistry();
     }
 
     /**
-     * Advances the franchise to the next season.
+     * Rebuilds the player registry from the rosters, assigning ids to players that lack one.
+     * Lineups and draftees are deserialized as separate copies of their players, so they are
+     * re-pointed at the rostered instances.
      */
-    public void advanceSeason() {
-        // Archive current season before advancing
-        archiveSeason();
-        
-        // Decrement contract years and age players
-        decrementContractYears();
-        agePlayersOneYear();
-        
-        // Add new draft picks for the future
-        addFutureDraftPicks(currentSeason + 6);
-        
+    private void rebuildPlayerRegistry() {
+        playerRegistry.clear();
+        capLedger.clear();
+        statsStore.clear();
+        for (Team team : new Team[] { selectedNHLTeam, selectedAHLTeam }) {
+            if (team != null && team.getRoster() != null) {
+                for (Player player : team.getRoster()) {
+                    registerPlayer(player, team);
+                }
+            }
+        }
+        for (Team team : new Team[] { selectedNHLTeam, selectedAHLTeam }) {
+            if (team != null && team.getLineup() != null) {
+                Lineup lineup = team.getLineup();
+                resolvePlayers(lineup.getForwards());
+                resolvePlayers(lineup.getDefensemen());
+                resolvePlayers(lineup.getGoalies());
+            }
+        }
+        if (draftPicks != null) {
+            for (DraftedPlayer draftee : draftPicks) {
+                Player player = draftee.getPlayer();
+                if (player != null && player.getId() != 0 && playerRegistry.get(player.getId()) != null) {
+                    draftee.setPlayer(playerRegistry.get(player.getId()));
+                }
+            }
+        }
+    }
+
+    private void resolvePlayers(List<Player> players) {
+        if (players == null) {
+            return;
+        }
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (player != null && player.getId() != 0 && playerRegistry.get(player.getId()) != null) {
+                players.set(i, playerRegistry.get(player.getId()));
+            }
+        }
+    }
+
+    /**
+     * Registers a player on a team, giving them a fresh id if they have none or if their id
+     * already belongs to a different player (for example a re-imported export).
+     */
+    private void registerPlayer(Player player, Team team) {
+        Player existing = player.getId() != 0 ? playerRegistry.get(player.getId()) : null;
+        if (player.getId() == 0 || (existing != null && existing != player)) {
+            player.setId(nextPlayerId++);
+        } else if (player.getId() >= nextPlayerId) {
+            nextPlayerId = player.getId() + 1;
+        }
+        playerRegistry.register(player, team);
+        capLedger.add(player, team == selectedNHLTeam);
+        markChanged();
+        statsStore.add(player);
+    }
+
+    /**
+     * Removes a player from a team's roster by id and drops them from the registry.
+     * @return true if the player was on that team
+     */
+    private boolean unregisterPlayer(Player player, Team team) {
+        if (team == null || team.getRoster() == null || !playerRegistry.contains(player)
+                || playerRegistry.teamOf(player.getId()) != team) {
+            return false;
+        }
+        List<Player> roster = team.getRoster();
+        for (int i = roster.size() - 1; i >= 0; i--) {
+            if (roster.get(i) == player) {
+                roster.remove(i);
+                break;
+            }
+        }
+        playerRegistry.unregister(player.getId());
+        capLedger.remove(player.getId());
+        statsStore.remove(player.getId());
+        markChanged();
+        return true;
+    }
+
+    /**
+     * Replaces a player's contract and updates the cap ledger.
+     * @param player The player
+     * @param contract The new contract, or null to remove it
+     */
+    public void updateContract(Player player, Contract contract) {
+        player.setContract(contract);
+        refreshPlayer(player);
+    }
+
+    /**
+     * Updates the cap ledger after a player's contract or position was edited in place.
+     * @param player The edited player
+     */
+    public void refreshPlayer(Player player) {
+        Team team = getTeamOf(player);
+        if (team != null) {
+            capLedger.update(player, team == selectedNHLTeam);
+            journal(JournalEntry.updatePlayer(player));
+        } else {
+            requestAutosave();
+        }
+    }
+
+    /**
+     * Records a player's stat line for a season, replacing any line already recorded for that season.
+     * @param player The player
+     * @param stats The season's stats
+     */
+    public void recordPlayerStats(Player player, PlayerSeasonStats stats) {
+        if (player.getCareerStats() == null) {
+            player.setCareerStats(new ArrayList<>());
+        }
+        player.getCareerStats().removeIf(s -> s.getYear() == stats.getYear());
+        player.getCareerStats().add(stats);
+        if (playerRegistry.contains(player)) {
+            statsStore.update(player);
+            journal(JournalEntry.updatePlayer(player));
+        } else {
+            requestAutosave();
+        }
+    }
+
+    /**
+     * Looks up a rostered player by id.
+     * @param id The player's id
+     * @return The player, or null if no rostered player has that id
+     */
+    public Player getPlayer(long id) {
+        return playerRegistry.get(id);
+    }
+
+    /**
+     * Gets the team whose roster holds the given player.
+     * @param player The player
+     * @return The NHL or AHL team, or null if the player is not rostered
+     */
+    public Team getTeamOf(Player player) {
+        return playerRegistry.contains(player) ? playerRegistry.teamOf(player.getId()) : null;
+    }
+
+    /**
+     * Gets every archived season of a player's career, oldest first, in O(seasons of that player).
+     * @param playerId The player's id
+     * @return The player's archived seasons, empty if none
+     */
+    public List<PlayerTimeline.Appearance> getPlayerTimeline(long playerId) {
+        return timeline().getTimeline(playerId);
+    }
+
+    /**
+     * Gets every archived season of an archived player's career, oldest first. Players from saves made
+     * before player ids existed are followed by name.
+     * @param player The player as archived in any season
+     * @return The player's archived seasons, empty if none
+     */
+    public List<PlayerTimeline.Appearance> getPlayerTimeline(PlayerSnapshot player) {
+        PlayerTimeline timeline = timeline();
+        long key = timeline.keyOf(player);
+        return key != 0 ? timeline.getTimeline(key) : List.of();
+    }
+
+    /**
+     * Gets a player as archived in the latest season at or before the given one.
+     * @param playerId The player's id
+     * @param season The season
+     * @return The player's season, or null if they had no archived season by then
+     */
+    public PlayerTimeline.Appearance getPlayerAsOf(long playerId, int season) {
+        return timeline().getAsOf(playerId, season);
+    }
+
+    /**
+     * Gets the franchise as archived in the latest season at or before the given one: its rosters, cap,
+     * record, awards and trades as they stood then.
+     * @param season The season
+     * @return The archived season, or null if nothing was archived by then
+     */
+    public SeasonSnapshot getSeasonAsOf(int season) {
+        return timeline().getSeasonAsOf(season);
+    }
+
+    /**
+     * Gets the earliest archived season after the given one.
+     * @param season The season
+     * @return The archived season, or null if none follows
+     */
+    public SeasonSnapshot getSeasonAfter(int season) {
+        return timeline().getSeasonAfter(season);
+    }
+
+    /**
+     * Finds rostered players by first or last name as the user types, tolerating typos. The name index is
+     * built once per change to the franchise, so each keystroke only looks up the typed words.
+     * @param query The typed text
+     * @return The ids of the matching players, best matches first
+     */
+    public Set<Long> searchPlayers(String query) {
+        return rosterNamesQuery.get().search(query);
+    }
+
+    /**
+     * Finds players who finished any archived season with the franchise by name, tolerating typos.
+     * @param query The typed text
+     * @return The latest archived season of each matching player, best matches first
+     */
+    public List<PlayerTimeline.Appearance> searchArchivedPlayers(String query) {
+        return timeline().search(query);
+    }
+
+    private NameIndex indexRosterNames() {
+        NameIndex names = new NameIndex();
+        for (Player player : playerRegistry.players()) {
+            names.add(player.getId(), player.getFirstName(), player.getLastName());
+        }
+        return names;
+    }
+
+    private PlayerTimeline timeline() {
+        playerTimeline.sync(seasonHistory);
+        return playerTimeline;
+    }
+
+    /**
+     * Advances the franchise to the next season: archives it, ages every player in the league, runs down
+     * their contracts and adds the draft picks of a new future year.
+     * @return What was archived and how long each stage took
+     */
+    public RolloverReport advanceSeason() {
+        RolloverReport report = rollOver(true);
         currentSeason++;
+        journal(JournalEntry.of(JournalEntry.Type.ADVANCE_SEASON));
+        return report;
     }
     
     /**
      * Archives the current season state to history.
+     * @return What was archived and how long each stage took
      */
-    public void archiveSeason() {
-        List<Player> nhlRoster = selectedNHLTeam != null && selectedNHLTeam.getRoster() != null 
-            ? new ArrayList<>(selectedNHLTeam.getRoster()) : new ArrayList<>();
-        List<Player> ahlRoster = selectedAHLTeam != null && selectedAHLTeam.getRoster() != null 
-            ? new ArrayList<>(selectedAHLTeam.getRoster()) : new ArrayList<>();
-        
-        List<Award> seasonAwards = leagueAwards != null 
-            ? leagueAwards.stream().filter(a -> a.getYear() == currentSeason).toList() 
-            : new ArrayList<>();
-        
-        List<Trade> seasonTrades = trades != null 
-            ? trades.stream().filter(t -> t.getSeason() == currentSeason).toList() 
-            : new ArrayList<>();
-        
-        List<DraftedPlayer> seasonDrafts = draftPicks != null 
-            ? draftPicks.stream().filter(d -> d.getYear() == currentSeason).toList() 
-            : new ArrayList<>();
-        
-        SeasonSnapshot snapshot = SeasonSnapshot.createSnapshot(
+    public RolloverReport archiveSeason() {
+        RolloverReport report = rollOver(false);
+        markChanged();
+        return report;
+    }
+
+    /**
+     * Runs the season rollover pipeline. The season's awards, trades and draft picks are bucketed in one
+     * scan; then every roster is visited exactly once, snapshotting each player, summarizing the club and,
+     * when advancing, ageing the player and running down the contract in the same pass. Each team is one
+     * task on the common fork-join pool; a player is on one roster only, so no two tasks touch the same
+     * player. The history, the cap ledger and the pick inventory are not thread-safe and are updated
+     * afterwards.
+     * @param advance Whether to roll players forward after snapshotting them
+     */
+    private RolloverReport rollOver(boolean advance) {
+        RolloverReport report = new RolloverReport(currentSeason);
+
+        long start = System.nanoTime();
+        SeasonEvents events = bucketSeasonEvents();
+        report.recordStage("events", start);
+
+        start = System.nanoTime();
+        List<RolledTeam> rolled = teams.parallelStream().map(team -> rollTeam(team, advance)).toList();
+        report.recordStage("players", start);
+
+        start = System.nanoTime();
+        List<PlayerSnapshot> nhlRoster = new ArrayList<>();
+        List<PlayerSnapshot> ahlRoster = new ArrayList<>();
+        List<ClubSnapshot> league = new ArrayList<>(rolled.size());
+        double nhlCapHit = 0.0;
+        int players = 0;
+        for (RolledTeam team : rolled) {
+            league.add(team.club);
+            players += team.club.getPlayerCount();
+            if (team.team == selectedNHLTeam) {
+                nhlRoster = team.snapshots;
+                nhlCapHit = team.club.getTotalCapHit();
+            } else if (team.team == selectedAHLTeam) {
+                ahlRoster = team.snapshots;
+            }
+        }
+        SeasonSnapshot snapshot = SeasonSnapshot.fromSnapshots(
             currentSeason,
             nhlRoster,
             ahlRoster,
+            nhlCapHit,
             teamStats,
-            seasonAwards,
-            seasonTrades,
-            seasonDrafts,
-            futureDraftPicks != null ? new ArrayList<>(futureDraftPicks) : new ArrayList<>(),
+            events.awards,
+            events.trades,
+            events.draftPicks,
+            PersistentVector.snapshotOf(futureDraftPicks),
             capCeiling
         );
-        
+        snapshot.setLeague(league);
+
         if (seasonHistory == null) {
             seasonHistory = new ArrayList<>();
         }
         seasonHistory.add(snapshot);
+        leadersIndex.recordSeason(snapshot);
+        SeasonSnapshot.compactHistory(seasonHistory);
+        report.recordStage("archive", start);
+
+        if (advance) {
+            start = System.nanoTime();
+            for (Player player : playerRegistry.players()) {
+                capLedger.update(player, playerRegistry.teamOf(player.getId()) == selectedNHLTeam);
+            }
+            report.recordStage("ledger", start);
+
+            start = System.nanoTime();
+            addFutureDraftPicks(currentSeason + 6);
+            report.recordStage("picks", start);
+        }
+
+        report.setClubs(rolled.size());
+        report.setPlayers(players);
+        report.setAwards(events.awards.size());
+        report.setTrades(events.trades.size());
+        report.setDraftPicks(events.draftPicks.size());
+        return report;
     }
-    
+
     /**
-     * Decrements contract years for all players.
+     * Visits every player on a team once: snapshots the franchise's own players, totals the club summary
+     * and, when advancing, ages the player and decrements the contract years. Snapshots and totals are
+     * taken before the player is changed, so they describe the season being archived.
      */
-    private void decrementContractYears() {
-        for (Player player : getAllPlayers()) {
-            if (player.getContract() != null && player.getContract().getTermInYears() > 0) {
-                player.getContract().setTermInYears(player.getContract().getTermInYears() - 1);
+    private RolledTeam rollTeam(Team team, boolean advance) {
+        boolean managed = team == selectedNHLTeam || team == selectedAHLTeam;
+        List<Player> roster = PersistentVector.snapshotOf(team.getRoster());
+        List<PlayerSnapshot> snapshots = managed ? new ArrayList<>(roster.size()) : List.of();
+        long ages = 0;
+        long overalls = 0;
+        double capHit = 0;
+        for (Player player : roster) {
+            if (managed) {
+                snapshots.add(PlayerSnapshot.fromPlayer(player, currentSeason));
+            }
+            ages += player.getAge();
+            overalls += player.getOverall();
+            capHit += player.getCapHit();
+            if (advance) {
+                player.setAge(player.getAge() + 1);
+                if (player.getContract() != null && player.getContract().getTermInYears() > 0) {
+                    player.getContract().setTermInYears(player.getContract().getTermInYears() - 1);
+                }
             }
         }
+        return new RolledTeam(team, snapshots, ClubSnapshot.of(team, roster.size(), ages, overalls, capHit));
     }
-    
+
     /**
-     * Ages all players by one year.
+     * Collects the current season's awards, trades and draft picks, scanning each event list once.
      */
-    private void agePlayersOneYear() {
-        for (Player player : getAllPlayers()) {
-            player.setAge(player.getAge() + 1);
+    private SeasonEvents bucketSeasonEvents() {
+        SeasonEvents events = new SeasonEvents();
+        if (leagueAwards != null) {
+            for (Award award : leagueAwards) {
+                if (award.getYear() == currentSeason) {
+                    events.awards.add(award);
+                }
+            }
         }
+        if (trades != null) {
+            for (Trade trade : trades) {
+                if (trade.getSeason() == currentSeason) {
+                    events.trades.add(trade);
+                }
+            }
+        }
+        if (draftPicks != null) {
+            for (DraftedPlayer draftee : draftPicks) {
+                if (draftee.getYear() == currentSeason) {
+                    events.draftPicks.add(draftee);
+                }
+            }
+        }
+        return events;
     }
     
     /**
@@ -229,7 +781,7 @@ public class FranchiseTracker {
      */
     private void addFutureDraftPicks(int year) {
         if (futureDraftPicks == null) {
-            futureDraftPicks = new ArrayList<>();
+            futureDraftPicks = new SnapshotList<>();
         }
         for (int round = 1; round <= 7; round++) {
             DraftPick pick = new DraftPick(year, round);
@@ -240,15 +792,10 @@ public class FranchiseTracker {
     }
     
     /**
-     * Calculates total cap hit for the NHL roster.
+     * Gets the total cap hit for the NHL roster from the cap ledger.
      */
     public double getTotalCapHit() {
-        if (selectedNHLTeam == null || selectedNHLTeam.getRoster() == null) {
-            return 0.0;
-        }
-        return selectedNHLTeam.getRoster().stream()
-            .mapToDouble(Player::getCapHit)
-            .sum();
+        return capLedger.getNhlCapHit();
     }
     
     /**
@@ -260,19 +807,28 @@ public class FranchiseTracker {
     
     /**
      * Gets players with expiring contracts for a given year.
+     * @return An unmodifiable list, shared until the franchise next changes
      */
     public List<Player> getExpiringContracts(int year) {
-        return getAllPlayers().stream()
-            .filter(p -> p.getContract() != null && 
-                        p.getContract().getExpirationYear() == year)
+        return expiringContractsQuery.get(year);
+    }
+
+    private List<Player> findExpiringContracts(int year) {
+        return capLedger.getExpiringIds(year).stream()
+            .map(playerRegistry::get)
             .toList();
     }
     
     /**
      * Gets draft picks for a specific year.
+     * @return An unmodifiable list, shared until the franchise next changes
      */
     public List<DraftPick> getDraftPicksForYear(int year) {
-        if (futureDraftPicks == null) return new ArrayList<>();
+        return draftPicksForYearQuery.get(year);
+    }
+
+    private List<DraftPick> findDraftPicksForYear(int year) {
+        if (futureDraftPicks == null) return List.of();
         return futureDraftPicks.stream()
             .filter(p -> p.getYear() == year)
             .sorted((a, b) -> a.getRound() - b.getRound())
@@ -288,6 +844,7 @@ public class FranchiseTracker {
         }
         trade.setSeason(currentSeason);
         trades.add(trade);
+        journal(JournalEntry.recordTrade(trade));
     }
     
     /**
@@ -299,6 +856,7 @@ public class FranchiseTracker {
         }
         award.setYear(currentSeason);
         leagueAwards.add(award);
+        journal(JournalEntry.recordAward(award));
     }
     
     /**
@@ -316,24 +874,31 @@ public class FranchiseTracker {
             futureDraftPicks.removeIf(p -> 
                 p.getYear() == currentSeason && p.getRound() == draftedPlayer.getRound());
         }
+        journal(JournalEntry.recordDraftPick(draftedPlayer));
     }
     
     /**
      * Gets all AHL/prospect players.
+     * @return An unmodifiable list, shared until the franchise next changes
      */
     public List<Player> getProspects() {
-        List<Player> prospects = new ArrayList<>();
-        if (selectedAHLTeam != null && selectedAHLTeam.getRoster() != null) {
-            prospects.addAll(selectedAHLTeam.getRoster());
-        }
-        return prospects;
+        return prospectsQuery.get();
+    }
+
+    private List<Player> findProspects() {
+        return PersistentVector.snapshotOf(selectedAHLTeam != null ? selectedAHLTeam.getRoster() : null);
     }
     
     /**
      * Gets unsigned draft picks.
+     * @return An unmodifiable list, shared until the franchise next changes
      */
     public List<DraftedPlayer> getUnsignedDraftees() {
-        if (draftPicks == null) return new ArrayList<>();
+        return unsignedDrafteesQuery.get();
+    }
+
+    private List<DraftedPlayer> findUnsignedDraftees() {
+        if (draftPicks == null) return List.of();
         return draftPicks.stream()
             .filter(d -> !d.isSignedToContract())
             .toList();
@@ -343,6 +908,10 @@ public class FranchiseTracker {
      * Gets the number of Stanley Cups won.
      */
     public int getStanleyCupCount() {
+        return stanleyCupQuery.get();
+    }
+
+    private int countStanleyCups() {
         if (seasonHistory == null) return 0;
         return (int) seasonHistory.stream()
             .filter(SeasonSnapshot::wonStanleyCup)
@@ -356,6 +925,7 @@ public class FranchiseTracker {
         archiveSeason();
         franchiseCompleted = true;
         franchiseCompletedSeason = currentSeason;
+        journal(JournalEntry.of(JournalEntry.Type.COMPLETE_FRANCHISE));
     }
 
     /**
@@ -363,8 +933,8 @@ public class FranchiseTracker {
      * @param player The player to add
      */
     public void addPlayerToNHL(Player player) {
-        if (selectedNHLTeam != null && selectedNHLTeam.getRoster() != null) {
-            selectedNHLTeam.getRoster().add(player);
+        if (addToRoster(player, selectedNHLTeam)) {
+            journal(JournalEntry.addPlayer(player, false));
         }
     }
 
@@ -373,9 +943,40 @@ public class FranchiseTracker {
      * @param player The player to add
      */
     public void addPlayerToAHL(Player player) {
-        if (selectedAHLTeam != null && selectedAHLTeam.getRoster() != null) {
-            selectedAHLTeam.getRoster().add(player);
+        if (addToRoster(player, selectedAHLTeam)) {
+            journal(JournalEntry.addPlayer(player, true));
+        }
+    }
+
+    private boolean addToRoster(Player player, Team team) {
+        if (team == null || team.getRoster() == null) {
+            return false;
         }
+        registerPlayer(player, team);
+        team.getRoster().add(player);
+        return true;
+    }
+
+    /**
+     * Adds a batch of players to the NHL and AHL rosters at once, for bulk imports.
+     * @param nhlPlayers Players to add to the NHL roster
+     * @param ahlPlayers Players to add to the AHL roster
+     */
+    public void addPlayers(List<Player> nhlPlayers, List<Player> ahlPlayers) {
+        addPlayers(selectedNHLTeam, nhlPlayers);
+        addPlayers(selectedAHLTeam, ahlPlayers);
+        // A bulk import is cheaper to write as one full save than as an entry per player
+        requestAutosave();
+    }
+
+    private void addPlayers(Team team, List<Player> players) {
+        if (team == null || team.getRoster() == null || players.isEmpty()) {
+            return;
+        }
+        for (Player player : players) {
+            registerPlayer(player, team);
+        }
+        team.getRoster().addAll(players);
     }
 
     /**
@@ -383,8 +984,8 @@ public class FranchiseTracker {
      * @param player The player to remove
      */
     public void removePlayerFromNHL(Player player) {
-        if (selectedNHLTeam != null && selectedNHLTeam.getRoster() != null) {
-            selectedNHLTeam.getRoster().remove(player);
+        if (unregisterPlayer(player, selectedNHLTeam)) {
+            journal(JournalEntry.removePlayer(player));
         }
     }
 
@@ -393,8 +994,8 @@ public class FranchiseTracker {
      * @param player The player to remove
      */
     public void removePlayerFromAHL(Player player) {
-        if (selectedAHLTeam != null && selectedAHLTeam.getRoster() != null) {
-            selectedAHLTeam.getRoster().remove(player);
+        if (unregisterPlayer(player, selectedAHLTeam)) {
+            journal(JournalEntry.removePlayer(player));
         }
     }
 
@@ -403,8 +1004,9 @@ public class FranchiseTracker {
      * @param player The player to send down
      */
     public void sendPlayerToAHL(Player player) {
-        removePlayerFromNHL(player);
-        addPlayerToAHL(player);
+        if (unregisterPlayer(player, selectedNHLTeam) && addToRoster(player, selectedAHLTeam)) {
+            journal(JournalEntry.movePlayer(player, true));
+        }
     }
 
     /**
@@ -412,22 +1014,175 @@ public class FranchiseTracker {
      * @param player The player to call up
      */
     public void callUpPlayerFromAHL(Player player) {
-        removePlayerFromAHL(player);
-        addPlayerToNHL(player);
+        if (unregisterPlayer(player, selectedAHLTeam) && addToRoster(player, selectedNHLTeam)) {
+            journal(JournalEntry.movePlayer(player, false));
+        }
+    }
+
+    /**
+     * Adds an NHL club and its AHL affiliate to the league. Their players are aged and archived with the
+     * franchise but are not part of it.
+     * @param nhlTeamName Name of the NHL club
+     * @param ahlTeamName Name of its AHL affiliate
+     * @return The new NHL club
+     * @throws IllegalArgumentException if a team of either name is already tracked
+     */
+    public Team addClub(String nhlTeamName, String ahlTeamName) {
+        if (getTeam(nhlTeamName) != null || getTeam(ahlTeamName) != null || nhlTeamName.equals(ahlTeamName)) {
+            throw new IllegalArgumentException("A team named " + nhlTeamName + " or " + ahlTeamName + " already exists");
+        }
+        Team nhl = newClubTeam(nhlTeamName, ahlTeamName, false);
+        teams.add(nhl);
+        teams.add(newClubTeam(ahlTeamName, nhlTeamName, true));
+        requestAutosave();
+        return nhl;
+    }
+
+    private static Team newClubTeam(String name, String affiliate, boolean ahl) {
+        Team team = new Team();
+        team.setName(name);
+        team.setAffiliate(affiliate);
+        team.setIsAHL(ahl);
+        team.setRoster(new SnapshotList<>());
+        team.setAwards(new ArrayList<>());
+        team.setCareerStats(new ArrayList<>());
+        team.setDraftPicks(new ArrayList<>());
+        team.setLineup(new Lineup());
+        return team;
+    }
+
+    /**
+     * Finds a tracked team, managed or not, by name.
+     * @param name The team's name
+     * @return The team, or null if no tracked team has that name
+     */
+    public Team getTeam(String name) {
+        for (Team team : teams) {
+            if (name.equals(team.getName())) {
+                return team;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the NHL clubs of the league, the franchise's own included, in the order they were added.
+     * @return The NHL teams
+     */
+    public List<Team> getClubs() {
+        return teams.stream().filter(team -> !team.isAHL()).toList();
+    }
+
+    /**
+     * Gets a team's paired club: the AHL affiliate of an NHL club, or the NHL parent of an AHL team.
+     * @param team The team
+     * @return The affiliate, or null if it has none
+     */
+    public Team getAffiliate(Team team) {
+        return team.getAffiliate() != null ? getTeam(team.getAffiliate()) : null;
+    }
+
+    /**
+     * Adds a player to any tracked team. Players joining one of the franchise's own teams go through
+     * {@link #addPlayerToNHL} or {@link #addPlayerToAHL}; players of league clubs only get an id.
+     * @param team The team
+     * @param player The player to add
+     */
+    public void addPlayerToTeam(Team team, Player player) {
+        if (team == selectedNHLTeam) {
+            addPlayerToNHL(player);
+        } else if (team == selectedAHLTeam) {
+            addPlayerToAHL(player);
+        } else if (team.getRoster() != null) {
+            if (player.getId() == 0) {
+                player.setId(nextPlayerId++);
+            } else if (player.getId() >= nextPlayerId) {
+                nextPlayerId = player.getId() + 1;
+            }
+            team.getRoster().add(player);
+            // League clubs are not journaled; their edits are saved in full
+            requestAutosave();
+        }
+    }
+
+    /**
+     * Removes a player from any tracked team.
+     * @param team The team
+     * @param player The player to remove
+     */
+    public void removePlayerFromTeam(Team team, Player player) {
+        if (team == selectedNHLTeam) {
+            removePlayerFromNHL(player);
+        } else if (team == selectedAHLTeam) {
+            removePlayerFromAHL(player);
+        } else if (team.getRoster() != null && removeById(team.getRoster(), player.getId())) {
+            requestAutosave();
+        }
+    }
+
+    private static boolean removeById(List<Player> roster, long id) {
+        return id != 0 && roster.removeIf(player -> player.getId() == id);
     }
 
     /**
      * Gets all players from both NHL and AHL rosters.
-     * @return Combined list of all players
+     * @return Combined list of all players, unmodifiable and shared until the franchise next changes
      */
     public List<Player> getAllPlayers() {
-        List<Player> allPlayers = new ArrayList<>();
+        return allPlayersQuery.get();
+    }
+
+    private List<Player> findAllPlayers() {
+        List<Player> allPlayers = new ArrayList<>(playerRegistry.size());
         if (selectedNHLTeam != null && selectedNHLTeam.getRoster() != null) {
             allPlayers.addAll(selectedNHLTeam.getRoster());
         }
         if (selectedAHLTeam != null && selectedAHLTeam.getRoster() != null) {
             allPlayers.addAll(selectedAHLTeam.getRoster());
         }
-        return allPlayers;
+        return Collections.unmodifiableList(allPlayers);
+    }
+
+    /**
+     * Finds the rostered players who carry every X-Factor in a mask, NHL roster first.
+     * @param required The X-Factors to require, as built by {@link PLAYER_XFACTORS#maskOf}
+     * @return The matching players in roster order
+     */
+    public List<Player> getPlayersWithXFactors(long required) {
+        List<Player> matches = new ArrayList<>();
+        for (Team team : new Team[] { selectedNHLTeam, selectedAHLTeam }) {
+            if (team != null && team.getRoster() != null) {
+                for (Player player : team.getRoster()) {
+                    if (player.hasAllXFactors(required)) {
+                        matches.add(player);
+                    }
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * One team after its rollover pass: its player snapshots (only for the franchise's own teams) and its summary.
+     */
+    private static final class RolledTeam {
+        private final Team team;
+        private final List<PlayerSnapshot> snapshots;
+        private final ClubSnapshot club;
+
+        private RolledTeam(Team team, List<PlayerSnapshot> snapshots, ClubSnapshot club) {
+            this.team = team;
+            this.snapshots = snapshots;
+            this.club = club;
+        }
+    }
+
+    /**
+     * The awards, trades and draft picks of the season being archived.
+     */
+    private static final class SeasonEvents {
+        private final List<Award> awards = new ArrayList<>();
+        private final List<Trade> trades = new ArrayList<>();
+        private final List<DraftedPlayer> draftPicks = new ArrayList<>();
     }
 }
@@ -3,15 +3,20 @@ package com.github.loafabreadly.franchisetracker;
 import com.github.loafabreadly.franchisetracker.scene.MainMenu;
 
 /**
- * The entry point for the Franchise Tracker application.
+ * The entry point for the Franchise Tracker application. Without arguments it starts the terminal UI;
+ * with a command it runs that command headless through {@link BatchCli} and exits.
  */
 public class Main {
     /**
-     * Main method to launch the Franchise Tracker TUI.
-     * @param args Command-line arguments
+     * Main method to launch the Franchise Tracker TUI, or to run a batch command.
+     * @param args Command-line arguments; empty to start the TUI
      * @throws Exception if the application fails to start
      */
     public static void main(String[] args) throws Exception {
+        if (args.length > 0) {
+            // The UI classes are never loaded in batch mode, so commands start without a terminal
+            System.exit(new BatchCli(System.out, System.err).run(args));
+        }
         MainMenu.createMenu();
     }
 }
@@ -0,0 +1,308 @@
+package com.github.loafabreadly.franchisetracker;
+
+import com.googlecode.lanterna.TerminalSize;
+import com.googlecode.lanterna.gui2.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * PagedListView is a Lanterna list that only materializes one page of rows at a time.
+ * <p>
+ * A fixed pool of row buttons is created once and relabelled as the page changes, so building, paging,
+ * filtering and sorting cost the same however long the backing list is. The backing list is read, never
+ * copied; filtering and sorting work on an array of indexes into it. A search, such as a lookup in a
+ * {@link com.github.loafabreadly.franchisetracker.index.NameIndex}, hands over its matches by key, and
+ * the view is built from those alone, in the search's ranking.
+ * @param <T> The type of item shown in each row
+ */
+public class PagedListView<T> extends Panel {
+    private final int pageSize;
+    private final Function<T, String> formatter;
+    private final Consumer<T> onSelect;
+
+    private final Panel rows = new Panel(new LinearLayout(Direction.VERTICAL));
+    private final Button[] rowButtons;
+    private final Object[] rowItems;
+    private final Label emptyLabel;
+    private final Label pageLabel = new Label("");
+    private final Button previousButton;
+    private final Button nextButton;
+
+    private List<T> items = Collections.emptyList();
+    private Predicate<T> filter;
+    private Comparator<T> sort;
+    private Function<T, ?> key;
+    private Collection<?> matches;
+    // Key to position in the backing list, built on the first search after the items change
+    private Map<Object, Integer> positions;
+    private int[] view = new int[0];
+    private int page;
+    private int rowsShown = -1;
+
+    /**
+     * Creates an empty list.
+     * @param pageSize The number of rows on each page
+     * @param formatter Produces the text of an item's row
+     * @param onSelect Called with an item when its row is activated
+     * @param emptyText Shown instead of rows when no item passes the filter
+     */
+    public PagedListView(int pageSize, Function<T, String> formatter, Consumer<T> onSelect, String emptyText) {
+        super(new LinearLayout(Direction.VERTICAL));
+        this.pageSize = pageSize;
+        this.formatter = formatter;
+        this.onSelect = onSelect;
+        this.emptyLabel = new Label(emptyText);
+        this.rowButtons = new Button[pageSize];
+        this.rowItems = new Object[pageSize];
+        for (int i = 0; i < pageSize; i++) {
+            int row = i;
+            rowButtons[i] = new Button("", () -> select(row));
+        }
+
+        previousButton = new Button("< Prev", () -> showPage(page - 1));
+        nextButton = new Button("Next >", () -> showPage(page + 1));
+        Panel pager = new Panel(new LinearLayout(Direction.HORIZONTAL));
+        pager.addComponent(previousButton);
+        pager.addComponent(pageLabel);
+        pager.addComponent(nextButton);
+
+        addComponent(rows);
+        addComponent(pager);
+        render();
+    }
+
+    /**
+     * Replaces the backing list and re-applies the current filter and sort, staying on the same page where possible.
+     * Call this again after the list has been changed in place.
+     * @param items The items to show; the list is kept, not copied
+     */
+    public void setItems(List<T> items) {
+        this.items = items != null ? items : Collections.emptyList();
+        positions = null;
+        rebuildView();
+    }
+
+    /**
+     * Shows only the items that pass a filter and returns to the first page.
+     * @param filter The filter, or null to show every item
+     */
+    public void setFilter(Predicate<T> filter) {
+        this.filter = filter;
+        page = 0;
+        rebuildView();
+    }
+
+    /**
+     * Shows only the items a search matched, in the order given, and returns to the first page. The
+     * matches are looked up by key, so the cost is the number of matches rather than the number of items;
+     * the sort is not applied while they are shown. The filter still applies.
+     * @param key Gives an item's key, such as its id
+     * @param matches The matched keys, best first, or null to show every item again; keys of items not in
+     *                this list are skipped
+     */
+    public <K> void setMatches(Function<T, K> key, Collection<K> matches) {
+        if (this.key != key) {
+            this.key = key;
+            positions = null;
+        }
+        this.matches = matches;
+        page = 0;
+        rebuildView();
+    }
+
+    /**
+     * Orders the items and returns to the first page.
+     * @param sort The ordering, or null for the backing list's order
+     */
+    public void setSort(Comparator<T> sort) {
+        this.sort = sort;
+        page = 0;
+        rebuildView();
+    }
+
+    /**
+     * @return The number of items that pass the filter
+     */
+    public int getVisibleCount() {
+        return view.length;
+    }
+
+    private void rebuildView() {
+        if (matches != null) {
+            view = matchedView();
+            showPage(page);
+            return;
+        }
+        int[] indexes = new int[items.size()];
+        int count = 0;
+        for (int i = 0; i < items.size(); i++) {
+            if (filter == null || filter.test(items.get(i))) {
+                indexes[count++] = i;
+            }
+        }
+        if (sort != null) {
+            Integer[] boxed = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                boxed[i] = indexes[i];
+            }
+            Arrays.sort(boxed, (a, b) -> sort.compare(items.get(a), items.get(b)));
+            for (int i = 0; i < count; i++) {
+                indexes[i] = boxed[i];
+            }
+        }
+        view = count == indexes.length ? indexes : Arrays.copyOf(indexes, count);
+        showPage(page);
+    }
+
+    private int[] matchedView() {
+        if (positions == null) {
+            positions = new HashMap<>(items.size() * 2);
+            for (int i = 0; i < items.size(); i++) {
+                positions.putIfAbsent(key.apply(items.get(i)), i);
+            }
+        }
+        int[] indexes = new int[Math.min(matches.size(), items.size())];
+        int count = 0;
+        for (Object match : matches) {
+            Integer index = positions.get(match);
+            if (index != null && (filter == null || filter.test(items.get(index)))) {
+                indexes[count++] = index;
+                if (count == indexes.length) {
+                    break;
+                }
+            }
+        }
+        return count == indexes.length ? indexes : Arrays.copyOf(indexes, count);
+    }
+
+    private void showPage(int requested) {
+        int pages = Math.max(1, (view.length + pageSize - 1) / pageSize);
+        page = Math.max(0, Math.min(requested, pages - 1));
+        render();
+    }
+
+    private void render() {
+        int pages = Math.max(1, (view.length + pageSize - 1) / pageSize);
+        int first = page * pageSize;
+        int shown = Math.min(pageSize, view.length - first);
+
+        for (int i = 0; i < shown; i++) {
+            T item = items.get(view[first + i]);
+            rowItems[i] = item;
+            rowButtons[i].setLabel(formatter.apply(item));
+        }
+        for (int i = shown; i < pageSize; i++) {
+            rowItems[i] = null;
+        }
+
+        // Only a partial last page changes which rows are attached
+        if (shown != rowsShown) {
+            Interactable focused = getBasePane() != null ? getBasePane().getFocusedInteractable() : null;
+            rows.removeAllComponents();
+            for (int i = 0; i < shown; i++) {
+                rows.addComponent(rowButtons[i]);
+            }
+            if (shown == 0) {
+                rows.addComponent(emptyLabel);
+            }
+            if (focused != null && isDetachedRow(focused, shown)) {
+                getBasePane().setFocusedInteractable(shown > 0 ? rowButtons[shown - 1] : null);
+            }
+            rowsShown = shown;
+        }
+
+        pageLabel.setText(" Page " + (page + 1) + "/" + pages + " (" + view.length + ") ");
+        previousButton.setEnabled(page > 0);
+        nextButton.setEnabled(page < pages - 1);
+    }
+
+    private boolean isDetachedRow(Interactable focused, int shown) {
+        for (int i = shown; i < pageSize; i++) {
+            if (rowButtons[i] == focused) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void select(int row) {
+        Object item = rowItems[row];
+        if (item != null) {
+            onSelect.accept((T) item);
+        }
+    }
+
+    /**
+     * Builds a filter box and sort selector that drive one or more lists together.
+     * @param sorts The sort names and orderings, in display order; the first is selected initially
+     * @param search Looks the text typed into the filter box up in an index, such as
+     *               {@link FranchiseTracker#searchPlayers}, returning the matching keys best first;
+     *               called once per keystroke
+     * @param key Gives an item's key, as returned by the search
+     * @param lists The lists to control
+     * @return A horizontal panel holding the controls
+     */
+    @SafeVarargs
+    public static <T, K> Panel createControls(List<SortOption<T>> sorts, Function<String, Collection<K>> search,
+                                              Function<T, K> key, PagedListView<T>... lists) {
+        Panel controls = new Panel(new LinearLayout(Direction.HORIZONTAL));
+        TextBox filterBox = new TextBox(new TerminalSize(20, 1));
+        filterBox.setTextChangeListener((text, byUser) -> {
+            Collection<K> matches = text.isBlank() ? null : search.apply(text);
+            for (PagedListView<T> list : lists) {
+                list.setMatches(key, matches);
+            }
+        });
+        controls.addComponent(new Label("Filter:"));
+        controls.addComponent(filterBox);
+
+        if (!sorts.isEmpty()) {
+            ComboBox<String> sortCombo = new ComboBox<>();
+            List<Comparator<T>> comparators = new ArrayList<>();
+            for (SortOption<T> option : sorts) {
+                sortCombo.addItem(option.name);
+                comparators.add(option.comparator);
+            }
+            sortCombo.addListener((selected, previous, byUser) -> {
+                for (PagedListView<T> list : lists) {
+                    list.setSort(comparators.get(selected));
+                }
+            });
+            for (PagedListView<T> list : lists) {
+                list.setSort(comparators.get(0));
+            }
+            controls.addComponent(new Label(" Sort:"));
+            controls.addComponent(sortCombo);
+        }
+        return controls;
+    }
+
+    /**
+     * A named ordering offered by {@link #createControls}.
+     * @param <T> The type of item being sorted
+     */
+    public static final class SortOption<T> {
+        private final String name;
+        private final Comparator<T> comparator;
+
+        /**
+         * @param name The name shown in the sort selector
+         * @param comparator The ordering, or null for the backing list's order
+         */
+        public SortOption(String name, Comparator<T> comparator) {
+            this.name = name;
+            this.comparator = comparator;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.github.loafabreadly.franchisetracker.index;
+
+import com.github.loafabreadly.franchisetracker.model.CONTRACT_STATUS;
+import com.github.loafabreadly.franchisetracker.model.Contract;
+import com.github.loafabreadly.franchisetracker.model.PLAYER_POS;
+import com.github.loafabreadly.franchisetracker.model.Player;
+
+import java.util.*;
+
+/**
+ * CapLedger keeps running cap totals for every contracted, rostered player so that cap queries never
+ * rescan the rosters. NHL totals are kept overall, per position and per contract status. Expirations are
+ * tracked per year across both rosters, matching how expiring contracts have always been reported.
+ * <p>
+ * Amounts are stored as whole dollars in longs, so adding and removing the same contract always returns
+ * a total to exactly where it was. Each player's last recorded contribution is remembered, which lets
+ * {@link #update} back out the old values after a contract or position has been edited in place.
+ */
+public class CapLedger {
+    private static final double DOLLARS_PER_MILLION = 1_000_000.0;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private long nhlCapHit;
+    private final EnumMap<PLAYER_POS, Totals> nhlByPosition = new EnumMap<>(PLAYER_POS.class);
+    private final EnumMap<CONTRACT_STATUS, Totals> nhlByStatus = new EnumMap<>(CONTRACT_STATUS.class);
+    private final Map<Integer, Totals> byExpiration = new HashMap<>();
+    private final Map<Integer, Set<Long>> expiringIds = new HashMap<>();
+
+    /**
+     * Records a player's contract. Players without a contract are ignored.
+     * @param player The player, which must already have an id
+     * @param nhl Whether the player is on the NHL roster
+     */
+    public void add(Player player, boolean nhl) {
+        Contract contract = player.getContract();
+        if (contract == null) {
+            return;
+        }
+        Entry entry = new Entry(nhl, toDollars(contract.getAav()), player.getPosition(),
+                                contract.getStatus(), contract.getExpirationYear());
+        entries.put(player.getId(), entry);
+        apply(entry, player.getId(), 1);
+    }
+
+    /**
+     * Backs a player's recorded contract out of every total.
+     * @param id The player's id
+     */
+    public void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry != null) {
+            apply(entry, id, -1);
+        }
+    }
+
+    /**
+     * Re-records a player after their contract, position or roster changed.
+     * @param player The player
+     * @param nhl Whether the player is on the NHL roster
+     */
+    public void update(Player player, boolean nhl) {
+        remove(player.getId());
+        add(player, nhl);
+    }
+
+    /**
+     * Removes every recorded contract.
+     */
+    public void clear() {
+        entries.clear();
+        nhlCapHit = 0;
+        nhlByPosition.clear();
+        nhlByStatus.clear();
+        byExpiration.clear();
+        expiringIds.clear();
+    }
+
+    /**
+     * @return Total NHL cap hit in millions
+     */
+    public double getNhlCapHit() {
+        return toMillions(nhlCapHit);
+    }
+
+    /**
+     * @return NHL cap hit in millions per position, for positions with at least one contract
+     */
+    public Map<PLAYER_POS, Double> getNhlCapByPosition() {
+        return toMillionsMap(PLAYER_POS.class, nhlByPosition);
+    }
+
+    /**
+     * @return Number of NHL contracts per position
+     */
+    public Map<PLAYER_POS, Integer> getNhlCountByPosition() {
+        return toCountMap(PLAYER_POS.class, nhlByPosition);
+    }
+
+    /**
+     * @return NHL cap hit in millions per contract status, for statuses with at least one contract
+     */
+    public Map<CONTRACT_STATUS, Double> getNhlCapByStatus() {
+        return toMillionsMap(CONTRACT_STATUS.class, nhlByStatus);
+    }
+
+    /**
+     * @return Number of NHL contracts per contract status
+     */
+    public Map<CONTRACT_STATUS, Integer> getNhlCountByStatus() {
+        return toCountMap(CONTRACT_STATUS.class, nhlByStatus);
+    }
+
+    /**
+     * @param year The expiration year
+     * @return Cap hit in millions of all rostered contracts expiring in that year
+     */
+    public double getExpiringCapHit(int year) {
+        Totals totals = byExpiration.get(year);
+        return totals != null ? toMillions(totals.dollars) : 0.0;
+    }
+
+    /**
+     * @param year The expiration year
+     * @return Ids of all rostered players whose contracts expire in that year
+     */
+    public Set<Long> getExpiringIds(int year) {
+        Set<Long> ids = expiringIds.get(year);
+        return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+    }
+
+    /**
+     * Projects the NHL cap hit forward by subtracting each year's expiring contracts in turn.
+     * @param fromYear The first year to project
+     * @param seasons The number of years to project
+     * @return Projected cap hit in millions for each year, never below zero
+     */
+    public double[] projectCapHit(int fromYear, int seasons) {
+        double[] projected = new double[seasons];
+        long remaining = nhlCapHit;
+        for (int i = 0; i < seasons; i++) {
+            Totals totals = byExpiration.get(fromYear + i);
+            if (totals != null) {
+                remaining -= totals.dollars;
+            }
+            projected[i] = Math.max(0.0, toMillions(remaining));
+        }
+        return projected;
+    }
+
+    private void apply(Entry entry, long id, int sign) {
+        long dollars = sign * entry.dollars;
+        if (entry.nhl) {
+            nhlCapHit += dollars;
+            if (entry.position != null) {
+                adjust(nhlByPosition, entry.position, dollars, sign);
+            }
+            if (entry.status != null) {
+                adjust(nhlByStatus, entry.status, dollars, sign);
+            }
+        }
+        adjust(byExpiration, entry.expirationYear, dollars, sign);
+        if (sign > 0) {
+            expiringIds.computeIfAbsent(entry.expirationYear, y -> new LinkedHashSet<>()).add(id);
+        } else {
+            Set<Long> ids = expiringIds.get(entry.expirationYear);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    expiringIds.remove(entry.expirationYear);
+                }
+            }
+        }
+    }
+
+    private static <K> void adjust(Map<K, Totals> map, K key, long dollars, int count) {
+        Totals totals = map.computeIfAbsent(key, k -> new Totals());
+        totals.dollars += dollars;
+        totals.count += count;
+        if (totals.count == 0) {
+            map.remove(key);
+        }
+    }
+
+    private static <K extends Enum<K>> Map<K, Double> toMillionsMap(Class<K> type, Map<K, Totals> map) {
+        Map<K, Double> result = new EnumMap<>(type);
+        map.forEach((key, totals) -> result.put(key, toMillions(totals.dollars)));
+        return result;
+    }
+
+    private static <K extends Enum<K>> Map<K, Integer> toCountMap(Class<K> type, Map<K, Totals> map) {
+        Map<K, Integer> result = new EnumMap<>(type);
+        map.forEach((key, totals) -> result.put(key, totals.count));
+        return result;
+    }
+
+    private static long toDollars(double millions) {
+        return Math.round(millions * DOLLARS_PER_MILLION);
+    }
+
+    private static double toMillions(long dollars) {
+        return dollars / DOLLARS_PER_MILLION;
+    }
+
+    private static final class Totals {
+        private long dollars;
+        private int count;
+    }
+
+    /**
+     * What a player contributed to the totals when they were last recorded.
+     */
+    private static final class Entry {
+        private final boolean nhl;
+        private final long dollars;
+        private final PLAYER_POS position;
+        private final CONTRACT_STATUS status;
+        private final int expirationYear;
+
+        private Entry(boolean nhl, long dollars, PLAYER_POS position, CONTRACT_STATUS status, int expirationYear) {
+            this.nhl = nhl;
+            this.dollars = dollars;
+            this.position = position;
+            this.status = status;
+            this.expirationYear = expirationYear;
+        }
+    }
+}
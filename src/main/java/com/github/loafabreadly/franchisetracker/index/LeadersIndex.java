@@ -0,0 +1,189 @@
+package com.github.loafabreadly.franchisetracker.index;
+
+import com.github.loafabreadly.franchisetracker.model.CareerTotals;
+import com.github.loafabreadly.franchisetracker.model.PlayerSeasonStats;
+import com.github.loafabreadly.franchisetracker.model.PlayerSnapshot;
+import com.github.loafabreadly.franchisetracker.model.SeasonSnapshot;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * LeadersIndex keeps franchise career totals per player and the current top {@value #TOP_K} for each
+ * leaderboard stat. Archiving a season folds that season's NHL stat lines in incrementally, so reading a
+ * leaderboard costs O(K) however long the franchise has run.
+ * <p>
+ * Only the career totals are saved; the leaderboards are rebuilt from them on load.
+ */
+public class LeadersIndex {
+    public static final int TOP_K = 10;
+
+    /**
+     * The stats that have an all-time leaderboard.
+     */
+    public enum Stat {
+        POINTS(CareerTotals::getPoints),
+        GOALS(CareerTotals::getGoals),
+        ASSISTS(CareerTotals::getAssists),
+        GAMES_PLAYED(CareerTotals::getGamesPlayed),
+        WINS(CareerTotals::getWins),
+        SHUTOUTS(CareerTotals::getShutouts);
+
+        private final ToIntFunction<CareerTotals> value;
+
+        Stat(ToIntFunction<CareerTotals> value) {
+            this.value = value;
+        }
+
+        /**
+         * @return This stat's value in the given totals
+         */
+        public int of(CareerTotals totals) {
+            return value.applyAsInt(totals);
+        }
+    }
+
+    private final Map<Long, CareerTotals> totals = new LinkedHashMap<>();
+    private final EnumMap<Stat, List<CareerTotals>> leaders = new EnumMap<>(Stat.class);
+    // Snapshots from before player ids existed are keyed by name under synthetic negative ids
+    private final Map<String, Long> legacyIds = new HashMap<>();
+
+    public LeadersIndex() {
+        for (Stat stat : Stat.values()) {
+            leaders.put(stat, new ArrayList<>(TOP_K + 1));
+        }
+    }
+
+    /**
+     * Folds one archived season's NHL stat lines into the career totals and leaderboards.
+     * @param snapshot The archived season
+     */
+    public void recordSeason(SeasonSnapshot snapshot) {
+        boolean decreased = false;
+        for (PlayerSnapshot player : snapshot.getNhlRoster()) {
+            PlayerSeasonStats stats = player.getSeasonStats();
+            if (stats == null) {
+                continue;
+            }
+            CareerTotals career = totals.computeIfAbsent(keyOf(player), id -> {
+                CareerTotals created = new CareerTotals();
+                created.setPlayerId(id);
+                return created;
+            });
+            career.setName(player.getFullName());
+            career.add(stats);
+            if (stats.getGamesPlayed() < 0 || stats.getGoals() < 0 || stats.getAssists() < 0
+                    || stats.getPoints() < 0 || stats.getWins() < 0 || stats.getShutouts() < 0) {
+                decreased = true;
+            } else {
+                for (Stat stat : Stat.values()) {
+                    offer(stat, career);
+                }
+            }
+        }
+        // A total that went down can let someone outside a leaderboard overtake it; start over
+        if (decreased) {
+            rebuildLeaders();
+        }
+    }
+
+    /**
+     * Gets the leaders for a stat, best first.
+     * @param stat The stat
+     * @param limit The maximum number of leaders, at most {@value #TOP_K}
+     * @return The leaders with a non-zero total
+     */
+    public List<CareerTotals> getLeaders(Stat stat, int limit) {
+        List<CareerTotals> top = leaders.get(stat);
+        List<CareerTotals> result = new ArrayList<>(Math.min(limit, top.size()));
+        for (CareerTotals career : top) {
+            if (result.size() == limit || stat.of(career) <= 0) {
+                break;
+            }
+            result.add(career);
+        }
+        return result;
+    }
+
+    /**
+     * @return Every player's career totals, for saving
+     */
+    public Collection<CareerTotals> getTotals() {
+        return Collections.unmodifiableCollection(totals.values());
+    }
+
+    /**
+     * Replaces the index contents with previously saved career totals.
+     * @param saved The saved totals
+     */
+    public void load(List<CareerTotals> saved) {
+        clear();
+        for (CareerTotals career : saved) {
+            totals.put(career.getPlayerId(), career);
+            if (career.getPlayerId() < 0) {
+                legacyIds.put(career.getName(), career.getPlayerId());
+            }
+        }
+        rebuildLeaders();
+    }
+
+    /**
+     * Rebuilds the index from scratch by replaying a season history, for saves made before the index existed.
+     * @param history The season history in archive order
+     */
+    public void rebuild(List<SeasonSnapshot> history) {
+        clear();
+        if (history != null) {
+            for (SeasonSnapshot snapshot : history) {
+                recordSeason(snapshot);
+            }
+        }
+    }
+
+    private void clear() {
+        totals.clear();
+        legacyIds.clear();
+        leaders.values().forEach(List::clear);
+    }
+
+    private long keyOf(PlayerSnapshot player) {
+        if (player.getPlayerId() != 0) {
+            return player.getPlayerId();
+        }
+        return legacyIds.computeIfAbsent(player.getFullName(), name -> -(legacyIds.size() + 1L));
+    }
+
+    private void rebuildLeaders() {
+        leaders.values().forEach(List::clear);
+        for (CareerTotals career : totals.values()) {
+            for (Stat stat : Stat.values()) {
+                offer(stat, career);
+            }
+        }
+    }
+
+    /**
+     * Places a player whose total just grew into a leaderboard, keeping it sorted and at most K long.
+     */
+    private void offer(Stat stat, CareerTotals career) {
+        List<CareerTotals> top = leaders.get(stat);
+        top.removeIf(entry -> entry == career);
+        int value = stat.of(career);
+        if (top.size() == TOP_K && !ranksAbove(stat, value, career, top.get(TOP_K - 1))) {
+            return;
+        }
+        int position = top.size();
+        while (position > 0 && ranksAbove(stat, value, career, top.get(position - 1))) {
+            position--;
+        }
+        top.add(position, career);
+        if (top.size() > TOP_K) {
+            top.remove(TOP_K);
+        }
+    }
+
+    private static boolean ranksAbove(Stat stat, int value, CareerTotals career, CareerTotals other) {
+        int otherValue = stat.of(other);
+        return value > otherValue || (value == otherValue && career.getPlayerId() < other.getPlayerId());
+    }
+}
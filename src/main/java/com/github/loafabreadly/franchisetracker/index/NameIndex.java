@@ -0,0 +1,245 @@
+package com.github.loafabreadly.franchisetracker.index;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * NameIndex finds players by first and last name as the user types. Names are split into lower-case
+ * terms, with accents and apostrophes dropped, and kept in a sorted dictionary, so every term that starts
+ * with what has been typed is one contiguous range. A trigram index over the same terms finds names with
+ * typos: terms sharing enough trigrams with the typed text are checked by edit distance against the
+ * typed length, allowing one edit from {@value #ONE_EDIT_LENGTH} characters and two from
+ * {@value #TWO_EDIT_LENGTH}. Words too short for trigrams to tell near matches apart are instead looked up
+ * as prefix ranges once for each spelling within one edit of them.
+ * <p>
+ * A query of several words matches players with a term for every word, so "con mcd" finds Connor McDavid.
+ * A lookup touches the terms within reach of the typed text and the terms sharing at least
+ * {@value #MIN_SHARED_GRAMS} trigrams with it, never the whole list of names.
+ */
+public class NameIndex {
+    public static final int ONE_EDIT_LENGTH = 4;
+    public static final int TWO_EDIT_LENGTH = 10;
+    private static final int GRAM = 3;
+    private static final int MIN_SHARED_GRAMS = 2;
+    private static final String PAD = "$$";
+
+    // Term to the keys of the players whose name contains it
+    private final TreeMap<String, Set<Long>> terms = new TreeMap<>();
+    // Trigram, counted from the start of a padded term, to the terms containing it
+    private final Map<String, Set<String>> grams = new HashMap<>();
+    // Every character of every term, to spell the near misses of a short word
+    private final Set<Character> alphabet = new TreeSet<>();
+
+    /**
+     * Indexes a player's name. A key may be added under several names; it then matches all of them.
+     * @param key The player's key, such as their id
+     * @param firstName The first name, or null
+     * @param lastName The last name, or null
+     */
+    public void add(long key, String firstName, String lastName) {
+        addTerms(key, firstName);
+        addTerms(key, lastName);
+    }
+
+    /**
+     * Finds the players whose names match every word of a query, as a prefix or within a few typos.
+     * @param query The typed text
+     * @return The matching keys, exact prefix matches first and then by fewest typos
+     */
+    public Set<Long> search(String query) {
+        List<String> words = terms(query);
+        if (words.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, Integer> edits = null;
+        for (String word : words) {
+            Map<Long, Integer> matches = match(word);
+            if (edits == null) {
+                edits = matches;
+            } else {
+                edits.keySet().retainAll(matches.keySet());
+                edits.replaceAll((key, total) -> total + matches.get(key));
+            }
+            if (edits.isEmpty()) {
+                return Set.of();
+            }
+        }
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(edits.entrySet());
+        ranked.sort(Map.Entry.comparingByValue());
+        Set<Long> keys = new LinkedHashSet<>(ranked.size() * 2);
+        for (Map.Entry<Long, Integer> entry : ranked) {
+            keys.add(entry.getKey());
+        }
+        return Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Splits text into index terms: lower case, without accents, apostrophes or periods, broken at
+     * spaces, hyphens and any other character that is not a letter or digit.
+     * @param text The text, or null
+     * @return The terms, in order
+     */
+    public static List<String> terms(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String plain = Normalizer.normalize(text, Normalizer.Form.NFD)
+            .replaceAll("\\p{M}", "")
+            .replaceAll("['\\u2019.]", "")
+            .toLowerCase(Locale.ROOT);
+        List<String> terms = new ArrayList<>();
+        for (String term : plain.split("[^\\p{L}\\p{N}]+")) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    private void addTerms(long key, String name) {
+        for (String term : terms(name)) {
+            Set<Long> keys = terms.get(term);
+            if (keys == null) {
+                keys = new HashSet<>();
+                terms.put(term, keys);
+                for (String gram : gramsOf(term)) {
+                    grams.computeIfAbsent(gram, g -> new HashSet<>()).add(term);
+                }
+                for (int i = 0; i < term.length(); i++) {
+                    alphabet.add(term.charAt(i));
+                }
+            }
+            keys.add(key);
+        }
+    }
+
+    /**
+     * Finds the keys with a term matching one typed word, with the fewest edits each needed.
+     */
+    private Map<Long, Integer> match(String word) {
+        Map<Long, Integer> matches = new HashMap<>();
+        for (Set<Long> keys : terms.subMap(word, true, word + Character.MAX_VALUE, true).values()) {
+            for (Long key : keys) {
+                matches.put(key, 0);
+            }
+        }
+        int allowed = allowedEdits(word.length());
+        if (allowed == 0) {
+            return matches;
+        }
+        // An edit changes at most GRAM of the word's trigrams and a swap GRAM + 1, so a near match keeps the rest
+        Set<String> wordGrams = gramsOf(word);
+        int needed = wordGrams.size() - (GRAM + 1) * allowed;
+        if (needed < MIN_SHARED_GRAMS && allowed == 1) {
+            matchNeighbours(word, matches);
+            return matches;
+        }
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : wordGrams) {
+            for (String term : grams.getOrDefault(gram, Set.of())) {
+                shared.merge(term, 1, Integer::sum);
+            }
+        }
+        // Only a word repeating its own trigrams, such as "aaaaaaaaaa", can need fewer than MIN_SHARED_GRAMS here
+        needed = Math.max(1, needed);
+        for (Map.Entry<String, Integer> candidate : shared.entrySet()) {
+            String term = candidate.getKey();
+            if (candidate.getValue() < needed || term.startsWith(word)) {
+                continue;
+            }
+            int distance = prefixDistance(word, term, allowed);
+            if (distance <= allowed) {
+                for (Long key : terms.get(term)) {
+                    matches.merge(key, distance, Math::min);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the keys with a term starting with a spelling one edit away from a typed word. A term is within
+     * one edit of the word exactly when one of its prefixes is such a spelling, so each spelling is one
+     * prefix range of the dictionary.
+     */
+    private void matchNeighbours(String word, Map<Long, Integer> matches) {
+        Set<String> spellings = new HashSet<>();
+        for (int i = 0; i <= word.length(); i++) {
+            String head = word.substring(0, i);
+            for (char c : alphabet) {
+                spellings.add(head + c + word.substring(i));
+                if (i < word.length() && c != word.charAt(i)) {
+                    spellings.add(head + c + word.substring(i + 1));
+                }
+            }
+            if (i < word.length()) {
+                spellings.add(head + word.substring(i + 1));
+            }
+            if (i + 1 < word.length()) {
+                spellings.add(head + word.charAt(i + 1) + word.charAt(i) + word.substring(i + 2));
+            }
+        }
+        for (String spelling : spellings) {
+            for (Map.Entry<String, Set<Long>> entry : terms.subMap(spelling, true, spelling + Character.MAX_VALUE, true).entrySet()) {
+                if (!entry.getKey().startsWith(word)) {
+                    for (Long key : entry.getValue()) {
+                        matches.merge(key, 1, Math::min);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int allowedEdits(int length) {
+        return length >= TWO_EDIT_LENGTH ? 2 : length >= ONE_EDIT_LENGTH ? 1 : 0;
+    }
+
+    private static Set<String> gramsOf(String term) {
+        String padded = PAD + term;
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + GRAM <= padded.length(); i++) {
+            result.add(padded.substring(i, i + GRAM));
+        }
+        return result;
+    }
+
+    /**
+     * Computes the fewest insertions, deletions, substitutions and adjacent swaps that turn a typed word
+     * into some prefix of a term, giving up once that exceeds a limit.
+     * @return The distance, or limit + 1 if it is more than the limit
+     */
+    static int prefixDistance(String word, String term, int limit) {
+        int columns = Math.min(term.length(), word.length() + limit);
+        int[] beforePrevious = new int[columns + 1];
+        int[] previous = new int[columns + 1];
+        int[] row = new int[columns + 1];
+        for (int j = 0; j <= columns; j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= word.length(); i++) {
+            row[0] = i;
+            int best = i;
+            for (int j = 1; j <= columns; j++) {
+                int cost = word.charAt(i - 1) == term.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, row[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && word.charAt(i - 1) == term.charAt(j - 2) && word.charAt(i - 2) == term.charAt(j - 1)) {
+                    value = Math.min(value, beforePrevious[j - 2] + 1);
+                }
+                row[j] = value;
+                best = Math.min(best, value);
+            }
+            if (best > limit) {
+                return limit + 1;
+            }
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = row;
+            row = recycled;
+        }
+        int distance = limit + 1;
+        for (int value : previous) {
+            distance = Math.min(distance, value);
+        }
+        return distance;
+    }
+}
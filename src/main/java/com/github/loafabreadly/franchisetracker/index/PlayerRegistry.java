@@ -0,0 +1,92 @@
+package com.github.loafabreadly.franchisetracker.index;
+
+import com.github.loafabreadly.franchisetracker.model.Player;
+import com.github.loafabreadly.franchisetracker.model.Team;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PlayerRegistry indexes every rostered player by id, along with the team whose roster holds them.
+ * Lookups by id and membership checks are constant time, so roster moves never fall back to scanning
+ * rosters with Player's structural equals.
+ * <p>
+ * The registry is derived state: FranchiseTracker rebuilds it after loading and keeps it in step with
+ * every roster change it makes.
+ */
+public class PlayerRegistry {
+    private final Map<Long, Player> players = new LinkedHashMap<>();
+    private final Map<Long, Team> teams = new HashMap<>();
+
+    /**
+     * Registers a player as a member of the given team, replacing any previous membership.
+     * @param player The player, which must already have an id
+     * @param team The team whose roster holds the player
+     */
+    public void register(Player player, Team team) {
+        players.put(player.getId(), player);
+        teams.put(player.getId(), team);
+    }
+
+    /**
+     * Removes a player from the registry.
+     * @param id The player's id
+     * @return The removed player, or null if none was registered
+     */
+    public Player unregister(long id) {
+        teams.remove(id);
+        return players.remove(id);
+    }
+
+    /**
+     * Looks up a player by id.
+     * @param id The player's id
+     * @return The player, or null if none is registered
+     */
+    public Player get(long id) {
+        return players.get(id);
+    }
+
+    /**
+     * Gets the team whose roster holds the given player.
+     * @param id The player's id
+     * @return The team, or null if the player is not registered
+     */
+    public Team teamOf(long id) {
+        return teams.get(id);
+    }
+
+    /**
+     * Checks whether this exact player instance is registered.
+     * @param player The player
+     * @return true if the registry maps the player's id to this instance
+     */
+    public boolean contains(Player player) {
+        return player != null && players.get(player.getId()) == player;
+    }
+
+    /**
+     * @return Every registered player, as a read-only live view
+     */
+    public Collection<Player> players() {
+        return Collections.unmodifiableCollection(players.values());
+    }
+
+    /**
+     * @return The number of registered players
+     */
+    public int size() {
+        return players.size();
+    }
+
+    /**
+     * Removes every player from the registry.
+     */
+    public void clear() {
+        players.clear();
+        teams.clear();
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.loafabreadly.franchisetracker.index;
+
+import com.github.loafabreadly.franchisetracker.model.PlayerSnapshot;
+import com.github.loafabreadly.franchisetracker.model.SeasonSnapshot;
+
+import java.util.*;
+
+/**
+ * PlayerTimeline indexes a season history by player and by season. For every player it lists the archived
+ * seasons they were rostered in, and where in that season's NHL or AHL roster they sit, so following one
+ * player through history costs O(seasons of that player) rather than a scan of every archived roster.
+ * Seasons are kept in a sorted map for "as of season X" lookups.
+ * <p>
+ * Only positions are held, never the snapshots themselves, so delta-encoded seasons and bodies stored in
+ * the save file are still rebuilt and released on demand. The index follows the history it was built
+ * from: {@link #sync} indexes newly archived seasons and rebuilds from scratch if the history was replaced
+ * or shortened. Building it reads every archived roster once.
+ * <p>
+ * Archived names are kept in a {@link NameIndex}, so any player who ever finished a season with the
+ * franchise can be found by name as the user types.
+ */
+public class PlayerTimeline {
+    private final Map<Long, List<Stint>> stints = new HashMap<>();
+    // Season to position in the history; a season archived twice keeps its later snapshot
+    private final TreeMap<Integer, Integer> seasons = new TreeMap<>();
+    // Snapshots from before player ids existed are keyed by name under synthetic negative ids
+    private final Map<String, Long> legacyIds = new HashMap<>();
+    // Every archived name, under the same keys as the stints
+    private NameIndex names = new NameIndex();
+    private List<SeasonSnapshot> history = List.of();
+    // How many seasons of the history are indexed, and the last of them, to notice a replaced tail
+    private int indexed;
+    private SeasonSnapshot lastIndexed;
+
+    /**
+     * One archived season of a player's career.
+     */
+    public static final class Appearance {
+        private final int season;
+        private final boolean ahl;
+        private final PlayerSnapshot player;
+
+        private Appearance(int season, boolean ahl, PlayerSnapshot player) {
+            this.season = season;
+            this.ahl = ahl;
+            this.player = player;
+        }
+
+        /**
+         * @return The archived season
+         */
+        public int getSeason() {
+            return season;
+        }
+
+        /**
+         * @return Whether the player finished the season on the AHL roster
+         */
+        public boolean isAhl() {
+            return ahl;
+        }
+
+        /**
+         * @return The player as archived at the end of the season
+         */
+        public PlayerSnapshot getPlayer() {
+            return player;
+        }
+    }
+
+    /**
+     * Where a player sits in one archived season.
+     */
+    private static final class Stint {
+        private final int season;
+        private final int historyIndex;
+        private final boolean ahl;
+        private final int position;
+
+        private Stint(int season, int historyIndex, boolean ahl, int position) {
+            this.season = season;
+            this.historyIndex = historyIndex;
+            this.ahl = ahl;
+            this.position = position;
+        }
+    }
+
+    /**
+     * Brings the index up to date with a season history, indexing only seasons archived since the last call
+     * when the history is the same list it was built from.
+     * @param history The season history in archive order, or null
+     */
+    public void sync(List<SeasonSnapshot> history) {
+        if (history == null) {
+            history = List.of();
+        }
+        if (history != this.history || history.size() < indexed
+                || (indexed > 0 && history.get(indexed - 1) != lastIndexed)) {
+            clear();
+            this.history = history;
+        }
+        for (int i = indexed; i < history.size(); i++) {
+            index(history.get(i), i);
+        }
+        indexed = history.size();
+        lastIndexed = indexed > 0 ? history.get(indexed - 1) : null;
+    }
+
+    /**
+     * Gets every archived season of a player's career, oldest first.
+     * @param playerId The player's id
+     * @return The player's seasons, empty if none were archived
+     */
+    public List<Appearance> getTimeline(long playerId) {
+        List<Stint> career = stints.getOrDefault(playerId, List.of());
+        List<Appearance> timeline = new ArrayList<>(career.size());
+        for (Stint stint : career) {
+            timeline.add(resolve(stint));
+        }
+        return timeline;
+    }
+
+    /**
+     * Finds archived players by name, tolerating typos.
+     * @param query The typed text
+     * @return The latest archived season of each matching player, best matches first
+     */
+    public List<Appearance> search(String query) {
+        Set<Long> keys = names.search(query);
+        List<Appearance> found = new ArrayList<>(keys.size());
+        for (Long key : keys) {
+            List<Stint> career = stints.get(key);
+            found.add(resolve(career.get(career.size() - 1)));
+        }
+        return found;
+    }
+
+    /**
+     * Gets the key a snapshot's player is indexed under: their id, or a synthetic id for snapshots
+     * from before player ids existed.
+     * @param player An archived player
+     * @return The key, or 0 if the player is not in the index
+     */
+    public long keyOf(PlayerSnapshot player) {
+        if (player.getPlayerId() != 0) {
+            return player.getPlayerId();
+        }
+        return legacyIds.getOrDefault(player.getFullName(), 0L);
+    }
+
+    /**
+     * Gets a player as archived in the latest season at or before the given one.
+     * @param playerId The player's id
+     * @param season The season
+     * @return The player's most recent archived season as of then, or null if they had none
+     */
+    public Appearance getAsOf(long playerId, int season) {
+        List<Stint> career = stints.get(playerId);
+        if (career == null) {
+            return null;
+        }
+        // Stints are in archive order, which is season order
+        int low = 0;
+        int high = career.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (career.get(mid).season <= season) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found >= 0 ? resolve(career.get(found)) : null;
+    }
+
+    /**
+     * Gets the latest archived season at or before the given one.
+     * @param season The season
+     * @return The snapshot, or null if nothing was archived by then
+     */
+    public SeasonSnapshot getSeasonAsOf(int season) {
+        Map.Entry<Integer, Integer> entry = seasons.floorEntry(season);
+        return entry != null ? history.get(entry.getValue()) : null;
+    }
+
+    /**
+     * Gets the earliest archived season after the given one.
+     * @param season The season
+     * @return The snapshot, or null if nothing was archived after it
+     */
+    public SeasonSnapshot getSeasonAfter(int season) {
+        Map.Entry<Integer, Integer> entry = seasons.higherEntry(season);
+        return entry != null ? history.get(entry.getValue()) : null;
+    }
+
+    private void index(SeasonSnapshot snapshot, int historyIndex) {
+        seasons.put(snapshot.getSeason(), historyIndex);
+        List<PlayerSnapshot> nhl = snapshot.getNhlRoster();
+        for (int i = 0; i < nhl.size(); i++) {
+            add(nhl.get(i), new Stint(snapshot.getSeason(), historyIndex, false, i));
+        }
+        List<PlayerSnapshot> ahl = snapshot.getAhlRoster();
+        for (int i = 0; i < ahl.size(); i++) {
+            add(ahl.get(i), new Stint(snapshot.getSeason(), historyIndex, true, i));
+        }
+    }
+
+    private void add(PlayerSnapshot player, Stint stint) {
+        long key = player.getPlayerId() != 0
+            ? player.getPlayerId()
+            : legacyIds.computeIfAbsent(player.getFullName(), name -> -(legacyIds.size() + 1L));
+        stints.computeIfAbsent(key, id -> new ArrayList<>()).add(stint);
+        names.add(key, player.getFirstName(), player.getLastName());
+    }
+
+    private Appearance resolve(Stint stint) {
+        SeasonSnapshot snapshot = history.get(stint.historyIndex);
+        List<PlayerSnapshot> roster = stint.ahl ? snapshot.getAhlRoster() : snapshot.getNhlRoster();
+        return new Appearance(stint.season, stint.ahl, roster.get(stint.position));
+    }
+
+    private void clear() {
+        stints.clear();
+        seasons.clear();
+        legacyIds.clear();
+        names = new NameIndex();
+        indexed = 0;
+        lastIndexed = null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.loafabreadly.franchisetracker.index;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * QueryCache memoizes derived queries against a model version counter. The model calls
+ * {@link #invalidate} from every method that changes it, which bumps the version; a memoized result is
+ * only returned while the version it was computed at is still current, so a stale result can never be seen.
+ * Reads between two changes cost a version comparison.
+ * <p>
+ * Results are shared between callers, so queries must return unmodifiable values. Not thread-safe; the
+ * cache belongs to the thread that owns the model.
+ */
+public class QueryCache {
+    private long version;
+
+    /**
+     * Marks the model as changed, discarding every memoized result.
+     */
+    public void invalidate() {
+        version++;
+    }
+
+    /**
+     * @return The current model version, which changes whenever the model does
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Creates a memoized query without arguments.
+     * @param query Computes the result from the current model
+     * @return The memoized query
+     */
+    public <T> Memo<T> memo(Supplier<T> query) {
+        return new Memo<>(query);
+    }
+
+    /**
+     * Creates a memoized query with one int argument, such as a season.
+     * @param query Computes the result for an argument from the current model
+     * @return The memoized query
+     */
+    public <T> IntMemo<T> memoByInt(IntFunction<T> query) {
+        return new IntMemo<>(query);
+    }
+
+    /**
+     * A query whose result is kept until the model changes.
+     */
+    public final class Memo<T> {
+        private final Supplier<T> query;
+        private long computedAt = -1;
+        private T result;
+
+        private Memo(Supplier<T> query) {
+            this.query = query;
+        }
+
+        /**
+         * @return The result for the current model version
+         */
+        public T get() {
+            if (computedAt != version) {
+                result = query.get();
+                computedAt = version;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * A query whose results are kept per argument until the model changes.
+     */
+    public final class IntMemo<T> {
+        private final IntFunction<T> query;
+        private final Map<Integer, T> results = new HashMap<>();
+        private long computedAt = -1;
+
+        private IntMemo(IntFunction<T> query) {
+            this.query = query;
+        }
+
+        /**
+         * @return The result for the argument at the current model version
+         */
+        public T get(int argument) {
+            if (computedAt != version) {
+                results.clear();
+                computedAt = version;
+            }
+            T result = results.get(argument);
+            if (result == null) {
+                result = query.apply(argument);
+                results.put(argument, result);
+            }
+            return result;
+        }
+    }
+}
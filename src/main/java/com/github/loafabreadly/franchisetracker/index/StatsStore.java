@@ -0,0 +1,329 @@
+package com.github.loafabreadly.franchisetracker.index;
+
+import com.github.loafabreadly.franchisetracker.model.Player;
+import com.github.loafabreadly.franchisetracker.model.PlayerSeasonStats;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * StatsStore keeps the season stat lines of every rostered player in primitive columns, one int array per
+ * stat, alongside running career totals per player. Career totals, sums, maxima and the career leaders are
+ * plain loops over int arrays instead of stream walks over each player's PlayerSeasonStats list.
+ * <p>
+ * Players are stored in slots in the order they were added, which is the order ties are reported in.
+ * Removing a player leaves their rows and slot dead, and re-recording one leaves their old rows dead;
+ * both are compacted away once either dead rows or dead slots outnumber the live ones.
+ */
+public class StatsStore {
+    private static final int INITIAL_ROWS = 64;
+    private static final int INITIAL_SLOTS = 16;
+    private static final int MIN_COMPACT_ROWS = 256;
+    private static final int MIN_COMPACT_SLOTS = 64;
+    private static final int NONE = -1;
+    private static final Stat[] STATS = Stat.values();
+    private static final int STAT_COUNT = STATS.length;
+
+    /**
+     * The stats kept as columns.
+     */
+    public enum Stat {
+        GAMES_PLAYED(PlayerSeasonStats::getGamesPlayed),
+        GOALS(PlayerSeasonStats::getGoals),
+        ASSISTS(PlayerSeasonStats::getAssists),
+        POINTS(PlayerSeasonStats::getPoints),
+        PLUS_MINUS(PlayerSeasonStats::getPlusMinus),
+        PENALTY_MINUTES(PlayerSeasonStats::getPenaltyMinutes),
+        WINS(PlayerSeasonStats::getWins),
+        LOSSES(PlayerSeasonStats::getLosses),
+        OVERTIME_LOSSES(PlayerSeasonStats::getOvertimeLosses),
+        SHUTOUTS(PlayerSeasonStats::getShutouts);
+
+        private final ToIntFunction<PlayerSeasonStats> value;
+
+        Stat(ToIntFunction<PlayerSeasonStats> value) {
+            this.value = value;
+        }
+
+        /**
+         * @return This stat's value in the given season line
+         */
+        public int of(PlayerSeasonStats stats) {
+            return value.applyAsInt(stats);
+        }
+    }
+
+    // Season lines, one row each; rows of the same player are chained through rowNext
+    private int rowCount;
+    private int deadRows;
+    private int[] rowSlot = new int[INITIAL_ROWS];
+    private int[] rowYear = new int[INITIAL_ROWS];
+    private int[] rowNext = new int[INITIAL_ROWS];
+    private final int[][] rows = new int[STAT_COUNT][INITIAL_ROWS];
+
+    // Players, one slot each; a slot whose id is 0 belongs to a removed player
+    private int slotCount;
+    private int deadSlots;
+    private long[] slotId = new long[INITIAL_SLOTS];
+    private int[] slotFirstRow = new int[INITIAL_SLOTS];
+    private int[] slotSeasons = new int[INITIAL_SLOTS];
+    private final int[][] totals = new int[STAT_COUNT][INITIAL_SLOTS];
+    private final Map<Long, Integer> slots = new HashMap<>();
+
+    /**
+     * Records every season line of a player, replacing whatever was recorded for them before.
+     * @param player The player, which must already have an id
+     */
+    public void add(Player player) {
+        Integer slot = slots.get(player.getId());
+        if (slot == null) {
+            slot = allocateSlot(player.getId());
+        } else {
+            dropRows(slot);
+        }
+        if (player.getCareerStats() != null) {
+            for (PlayerSeasonStats stats : player.getCareerStats()) {
+                if (stats != null) {
+                    appendRow(slot, stats);
+                }
+            }
+        }
+        compactIfSparse();
+    }
+
+    /**
+     * Re-records a player after their season lines changed.
+     * @param player The player
+     */
+    public void update(Player player) {
+        add(player);
+    }
+
+    /**
+     * Drops a player and all of their season lines.
+     * @param id The player's id
+     */
+    public void remove(long id) {
+        Integer slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        dropRows(slot);
+        slotId[slot] = 0;
+        deadSlots++;
+        compactIfSparse();
+    }
+
+    /**
+     * Drops every player.
+     */
+    public void clear() {
+        slots.clear();
+        rowCount = 0;
+        deadRows = 0;
+        slotCount = 0;
+        deadSlots = 0;
+    }
+
+    /**
+     * @return A player's career total for a stat, or 0 if the player is not recorded
+     */
+    public int careerTotal(long id, Stat stat) {
+        Integer slot = slots.get(id);
+        return slot != null ? totals[stat.ordinal()][slot] : 0;
+    }
+
+    /**
+     * @return How many season lines are recorded for a player
+     */
+    public int seasonsRecorded(long id) {
+        Integer slot = slots.get(id);
+        return slot != null ? slotSeasons[slot] : 0;
+    }
+
+    /**
+     * @return The sum of a stat over every recorded player's career
+     */
+    public long sum(Stat stat) {
+        int[] column = totals[stat.ordinal()];
+        long sum = 0;
+        // Removed players' totals are zeroed, so every slot can be summed without a check
+        for (int slot = 0; slot < slotCount; slot++) {
+            sum += column[slot];
+        }
+        return sum;
+    }
+
+    /**
+     * @return The sum of a stat over every recorded season line for one season
+     */
+    public long seasonTotal(Stat stat, int year) {
+        int[] column = rows[stat.ordinal()];
+        long sum = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowYear[row] == year && rowSlot[row] != NONE) {
+                sum += column[row];
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * @return The highest career total of a stat among players with at least one season line, or 0 if there are none
+     */
+    public int max(Stat stat) {
+        int[] column = totals[stat.ordinal()];
+        int max = Integer.MIN_VALUE;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotSeasons[slot] > 0 && column[slot] > max) {
+                max = column[slot];
+            }
+        }
+        return max == Integer.MIN_VALUE ? 0 : max;
+    }
+
+    /**
+     * Finds the career leaders for a stat among players with at least one season line.
+     * @param stat The stat to rank by
+     * @param k How many leaders to return
+     * @return Up to k player ids, best first, with ties in the order the players were added
+     */
+    public long[] topK(Stat stat, int k) {
+        if (k <= 0) {
+            return new long[0];
+        }
+        int[] column = totals[stat.ordinal()];
+        int[] bestSlots = new int[k];
+        int[] bestValues = new int[k];
+        int count = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotSeasons[slot] == 0) {
+                continue;
+            }
+            int value = column[slot];
+            if (count == k && value <= bestValues[k - 1]) {
+                continue;
+            }
+            int i = count < k ? count++ : k - 1;
+            while (i > 0 && bestValues[i - 1] < value) {
+                bestValues[i] = bestValues[i - 1];
+                bestSlots[i] = bestSlots[i - 1];
+                i--;
+            }
+            bestValues[i] = value;
+            bestSlots[i] = slot;
+        }
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = slotId[bestSlots[i]];
+        }
+        return ids;
+    }
+
+    private int allocateSlot(long id) {
+        if (slotCount == slotId.length) {
+            int capacity = slotCount * 2;
+            slotId = Arrays.copyOf(slotId, capacity);
+            slotFirstRow = Arrays.copyOf(slotFirstRow, capacity);
+            slotSeasons = Arrays.copyOf(slotSeasons, capacity);
+            for (int s = 0; s < STAT_COUNT; s++) {
+                totals[s] = Arrays.copyOf(totals[s], capacity);
+            }
+        }
+        int slot = slotCount++;
+        slotId[slot] = id;
+        slotFirstRow[slot] = NONE;
+        slotSeasons[slot] = 0;
+        for (int s = 0; s < STAT_COUNT; s++) {
+            totals[s][slot] = 0;
+        }
+        slots.put(id, slot);
+        return slot;
+    }
+
+    private void appendRow(int slot, PlayerSeasonStats stats) {
+        if (rowCount == rowSlot.length) {
+            int capacity = rowCount * 2;
+            rowSlot = Arrays.copyOf(rowSlot, capacity);
+            rowYear = Arrays.copyOf(rowYear, capacity);
+            rowNext = Arrays.copyOf(rowNext, capacity);
+            for (int s = 0; s < STAT_COUNT; s++) {
+                rows[s] = Arrays.copyOf(rows[s], capacity);
+            }
+        }
+        int row = rowCount++;
+        rowSlot[row] = slot;
+        rowYear[row] = stats.getYear();
+        rowNext[row] = slotFirstRow[slot];
+        slotFirstRow[slot] = row;
+        slotSeasons[slot]++;
+        for (int s = 0; s < STAT_COUNT; s++) {
+            int value = STATS[s].of(stats);
+            rows[s][row] = value;
+            totals[s][slot] += value;
+        }
+    }
+
+    private void dropRows(int slot) {
+        for (int row = slotFirstRow[slot]; row != NONE; row = rowNext[row]) {
+            rowSlot[row] = NONE;
+            deadRows++;
+        }
+        slotFirstRow[slot] = NONE;
+        slotSeasons[slot] = 0;
+        for (int s = 0; s < STAT_COUNT; s++) {
+            totals[s][slot] = 0;
+        }
+    }
+
+    private void compactIfSparse() {
+        if ((deadRows >= MIN_COMPACT_ROWS && deadRows > rowCount - deadRows)
+                || (deadSlots >= MIN_COMPACT_SLOTS && deadSlots > slotCount - deadSlots)) {
+            compact();
+        }
+    }
+
+    /**
+     * Moves the live slots and rows to the front of their arrays, keeping their order.
+     */
+    private void compact() {
+        int[] slotMap = new int[slotCount];
+        int liveSlots = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotId[slot] == 0) {
+                slotMap[slot] = NONE;
+                continue;
+            }
+            slotMap[slot] = liveSlots;
+            slotId[liveSlots] = slotId[slot];
+            slotSeasons[liveSlots] = slotSeasons[slot];
+            slotFirstRow[liveSlots] = NONE;
+            for (int s = 0; s < STAT_COUNT; s++) {
+                totals[s][liveSlots] = totals[s][slot];
+            }
+            slots.put(slotId[liveSlots], liveSlots);
+            liveSlots++;
+        }
+        int liveRows = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowSlot[row] == NONE) {
+                continue;
+            }
+            int slot = slotMap[rowSlot[row]];
+            rowSlot[liveRows] = slot;
+            rowYear[liveRows] = rowYear[row];
+            rowNext[liveRows] = slotFirstRow[slot];
+            slotFirstRow[slot] = liveRows;
+            for (int s = 0; s < STAT_COUNT; s++) {
+                rows[s][liveRows] = rows[s][row];
+            }
+            liveRows++;
+        }
+        slotCount = liveSlots;
+        rowCount = liveRows;
+        deadRows = 0;
+        deadSlots = 0;
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * CareerTotals accumulates a player's archived NHL statistics across every season with the franchise.
+ * Saved with the franchise as the backing data of the all-time leaders index.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CareerTotals {
+    private long playerId;
+    private String name;
+    private int gamesPlayed;
+    private int goals;
+    private int assists;
+    private int points;
+    private int wins;
+    private int shutouts;
+
+    /**
+     * Adds one season's stats to the totals.
+     */
+    public void add(PlayerSeasonStats stats) {
+        gamesPlayed += stats.getGamesPlayed();
+        goals += stats.getGoals();
+        assists += stats.getAssists();
+        points += stats.getPoints();
+        wins += stats.getWins();
+        shutouts += stats.getShutouts();
+    }
+}
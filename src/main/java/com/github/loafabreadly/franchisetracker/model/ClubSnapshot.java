@@ -0,0 +1,68 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * ClubSnapshot summarizes one club of the league at the end of a season: its roster size, payroll and
+ * the age and overall of its players. Archived for every club alongside the franchise's own full
+ * {@link SeasonSnapshot}, so league history stays small however many clubs are tracked.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ClubSnapshot {
+    private String name;
+    private boolean ahl;
+    // The club's affiliate: the AHL team of an NHL club, or the NHL club of an AHL team
+    private String affiliate;
+    private boolean managed;
+    private int playerCount;
+    private double totalCapHit;
+    private double averageAge;
+    private double averageOverall;
+
+    /**
+     * Summarizes a team's current roster.
+     * @param team The team
+     * @return The team's summary
+     */
+    public static ClubSnapshot of(Team team) {
+        List<Player> roster = PersistentVector.snapshotOf(team.getRoster());
+        long ages = 0;
+        long overalls = 0;
+        double capHit = 0;
+        for (Player player : roster) {
+            ages += player.getAge();
+            overalls += player.getOverall();
+            capHit += player.getCapHit();
+        }
+        return of(team, roster.size(), ages, overalls, capHit);
+    }
+
+    /**
+     * Summarizes a team from roster totals already gathered by the caller, so a pass that visits the
+     * roster for other reasons need not visit it again.
+     * @param team The team
+     * @param playerCount The number of rostered players
+     * @param ages The sum of their ages
+     * @param overalls The sum of their overalls
+     * @param capHit The sum of their cap hits
+     * @return The team's summary
+     */
+    public static ClubSnapshot of(Team team, int playerCount, long ages, long overalls, double capHit) {
+        ClubSnapshot club = new ClubSnapshot();
+        club.setName(team.getName());
+        club.setAhl(team.isAHL());
+        club.setAffiliate(team.getAffiliate());
+        club.setManaged(team.isManaged());
+        club.setPlayerCount(playerCount);
+        club.setTotalCapHit(capHit);
+        if (playerCount > 0) {
+            club.setAverageAge((double) ages / playerCount);
+            club.setAverageOverall((double) overalls / playerCount);
+        }
+        return club;
+    }
+}
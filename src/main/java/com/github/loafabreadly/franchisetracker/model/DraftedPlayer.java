@@ -1,12 +1,14 @@
 package com.github.loafabreadly.franchisetracker.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import lombok.Data;
 import java.util.List;
 
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class DraftedPlayer {
+public class DraftedPlayer implements HasXFactors {
     private int year;
     private int round;
     private int pickOverall;
@@ -14,7 +16,8 @@ public class DraftedPlayer {
     private int overallAtDraft;
     private PLAYER_POS position;
     private PLAYER_STYLE style;
-    private List<PLAYER_XFACTORS> xFactors;
+    // X-Factors as PLAYER_XFACTORS bits
+    private long xfactorMask;
     private PLAYER_POTENTIAL potentialAtDraft;
     private POTENTIAL_ACCURACY potentialAccuracy;
     private boolean signedToContract;
@@ -46,4 +49,13 @@ public class DraftedPlayer {
             year, roundStr, pickOverall, getDisplayName(), 
             position != null ? position.name() : "N/A", overallAtDraft);
     }
+
+    /**
+     * Reads the X-Factor list that older saves wrote by name.
+     */
+    @JsonSetter("xfactors")
+    @JsonAlias("xFactors")
+    private void readLegacyXFactors(List<PLAYER_XFACTORS> xFactors) {
+        xfactorMask = PLAYER_XFACTORS.maskOf(xFactors);
+    }
 }
@@ -0,0 +1,43 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import java.util.List;
+
+/**
+ * HasXFactors gives mask-backed X-Factor queries to the models that carry a PLAYER_XFACTORS bit mask.
+ * Ability filters are single bitwise tests, for example
+ * {@code hasAllXFactors(PLAYER_XFACTORS.maskOf(HEATSEEKER, ELITE_EDGES))}.
+ */
+public interface HasXFactors {
+
+    long getXfactorMask();
+
+    void setXfactorMask(long xfactorMask);
+
+    /**
+     * @return Whether this carries the given X-Factor
+     */
+    default boolean hasXFactor(PLAYER_XFACTORS xFactor) {
+        return (getXfactorMask() & xFactor.bit()) != 0;
+    }
+
+    /**
+     * @return Whether this carries every X-Factor in the mask
+     */
+    default boolean hasAllXFactors(long required) {
+        return (getXfactorMask() & required) == required;
+    }
+
+    /**
+     * @return How many X-Factors this carries
+     */
+    default int xFactorCount() {
+        return Long.bitCount(getXfactorMask());
+    }
+
+    /**
+     * @return The X-Factors this carries, in declaration order
+     */
+    default List<PLAYER_XFACTORS> xFactors() {
+        return PLAYER_XFACTORS.fromMask(getXfactorMask());
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+/**
+ * JournalEntry is one franchise edit as recorded in a save's operation journal. Each entry carries just
+ * enough to repeat the edit on top of the save it follows: the players, trades, awards or draftees
+ * involved, as they were right after the edit. Only the fields its type uses are set.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JournalEntry {
+
+    /**
+     * The edits a journal can record.
+     */
+    public enum Type {
+        ADD_PLAYER,
+        REMOVE_PLAYER,
+        MOVE_PLAYER,
+        UPDATE_PLAYER,
+        RECORD_TRADE,
+        RECORD_AWARD,
+        RECORD_DRAFT_PICK,
+        ADVANCE_SEASON,
+        COMPLETE_FRANCHISE
+    }
+
+    private Type type;
+    // The roster a player joined: true for the AHL, false for the NHL
+    private Boolean ahl;
+    private Long playerId;
+    private Player player;
+    private Trade trade;
+    private Award award;
+    private DraftedPlayer draftee;
+
+    /**
+     * @return An entry for a player added to a roster
+     */
+    public static JournalEntry addPlayer(Player player, boolean ahl) {
+        JournalEntry entry = of(Type.ADD_PLAYER);
+        entry.setPlayer(player);
+        entry.setAhl(ahl);
+        return entry;
+    }
+
+    /**
+     * @return An entry for a player dropped from their roster
+     */
+    public static JournalEntry removePlayer(Player player) {
+        JournalEntry entry = of(Type.REMOVE_PLAYER);
+        entry.setPlayerId(player.getId());
+        return entry;
+    }
+
+    /**
+     * @return An entry for a player sent down to the AHL or called up to the NHL
+     */
+    public static JournalEntry movePlayer(Player player, boolean ahl) {
+        JournalEntry entry = of(Type.MOVE_PLAYER);
+        entry.setPlayerId(player.getId());
+        entry.setAhl(ahl);
+        return entry;
+    }
+
+    /**
+     * @return An entry replacing a rostered player with their edited state
+     */
+    public static JournalEntry updatePlayer(Player player) {
+        JournalEntry entry = of(Type.UPDATE_PLAYER);
+        entry.setPlayer(player);
+        return entry;
+    }
+
+    /**
+     * @return An entry for a recorded trade
+     */
+    public static JournalEntry recordTrade(Trade trade) {
+        JournalEntry entry = of(Type.RECORD_TRADE);
+        entry.setTrade(trade);
+        return entry;
+    }
+
+    /**
+     * @return An entry for a recorded award
+     */
+    public static JournalEntry recordAward(Award award) {
+        JournalEntry entry = of(Type.RECORD_AWARD);
+        entry.setAward(award);
+        return entry;
+    }
+
+    /**
+     * @return An entry for a recorded draft pick
+     */
+    public static JournalEntry recordDraftPick(DraftedPlayer draftee) {
+        JournalEntry entry = of(Type.RECORD_DRAFT_PICK);
+        entry.setDraftee(draftee);
+        return entry;
+    }
+
+    /**
+     * @return An entry for an edit that carries no data, such as advancing the season
+     */
+    public static JournalEntry of(Type type) {
+        JournalEntry entry = new JournalEntry();
+        entry.setType(type);
+        return entry;
+    }
+}
@@ -1,64 +1,141 @@
 package com.github.loafabreadly.franchisetracker.model;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * PLAYER_XFACTORS lists the X-Factor abilities. Players carry them as a 64-bit mask, and saves store that
+ * mask, so each X-Factor has a fixed bit number that never changes. Constants may be declared in any order;
+ * a new X-Factor takes the next unused bit.
+ */
 public enum PLAYER_XFACTORS {
 
-    ADVENTURER, 
-    ALL_ALONE,  
-    ALL_OR_NOTHING,  
-    ANKLE_BREAKER,  
-    BACK_AT_YA,  
-    BEAUTY_BACKHAND,  
-    BIG_RIG,  
-    BIG_TIPPER,  
-    BORN_LEADER,  
-    BOUNCE_BACK,  
-    BUTTERFLY_EFFECT,  
-    CLOSE_QUARTERS,  
-    CONTORTIONIST,  
-    CREASE_CRASHER,  
-    DIALED_IN,  
-    ELITE_EDGES,  
-    ENERGIZER,  
-    EXTRA_PARKING,  
-    HANDLED_IT,  
-    HEATSEEKER,  
-    ICE_PACK,  
-    IN_REVERSE,  
-    INSTINCTS,  
-    ITS_TRICKY,  
-    LAST_STAND,
-    LIGHT_WORK,  
-    MAGNETIC,  
-    MAKE_IT_SNAPPY,  
-    NO_CONTEST,  
-    NO_TIMER,  
-    OFF_THE_RUSH,  
-    ONE_TEE,  
-    POST_TO_POST,  
-    PUCK_ON_A_STRING,  
-    QUICK_DRAW,  
-    QUICK_PICK,  
-    RELENTLESS,  
-    SEEING_EYE,  
-    SEND_IT, 
-    SHNIPE,  
-    SHOCK_AND_AWE,  
-    SHOW_STOPPER,  
-    SHRUG_IT_OFF,  
-    SHUTDOWN,  
-    SKILLED_UP,  
-    SPIN_O_RAMA,  
-    SPONGE,  
-    STICK_EM_UP,  
-    TAPE_TO_TAPE,  
-    THIRD_EYE,  
-    THUNDER_CLAP,  
-    TIP_JAR,  
-    TOTAL_ECLIPSE,  
-    TRUCULENCE,  
-    UNSTOPPABLE_FORCE,  
-    WHEELS,  
-    WHIRLWIND,  
-    X_RAY,  
-    YOINK,
+    ADVENTURER(0),
+    ALL_ALONE(1),
+    ALL_OR_NOTHING(2),
+    ANKLE_BREAKER(3),
+    BACK_AT_YA(4),
+    BEAUTY_BACKHAND(5),
+    BIG_RIG(6),
+    BIG_TIPPER(7),
+    BORN_LEADER(8),
+    BOUNCE_BACK(9),
+    BUTTERFLY_EFFECT(10),
+    CLOSE_QUARTERS(11),
+    CONTORTIONIST(12),
+    CREASE_CRASHER(13),
+    DIALED_IN(14),
+    ELITE_EDGES(15),
+    ENERGIZER(16),
+    EXTRA_PARKING(17),
+    HANDLED_IT(18),
+    HEATSEEKER(19),
+    ICE_PACK(20),
+    IN_REVERSE(21),
+    INSTINCTS(22),
+    ITS_TRICKY(23),
+    LAST_STAND(24),
+    LIGHT_WORK(25),
+    MAGNETIC(26),
+    MAKE_IT_SNAPPY(27),
+    NO_CONTEST(28),
+    NO_TIMER(29),
+    OFF_THE_RUSH(30),
+    ONE_TEE(31),
+    POST_TO_POST(32),
+    PUCK_ON_A_STRING(33),
+    QUICK_DRAW(34),
+    QUICK_PICK(35),
+    RELENTLESS(36),
+    SEEING_EYE(37),
+    SEND_IT(38),
+    SHNIPE(39),
+    SHOCK_AND_AWE(40),
+    SHOW_STOPPER(41),
+    SHRUG_IT_OFF(42),
+    SHUTDOWN(43),
+    SKILLED_UP(44),
+    SPIN_O_RAMA(45),
+    SPONGE(46),
+    STICK_EM_UP(47),
+    TAPE_TO_TAPE(48),
+    THIRD_EYE(49),
+    THUNDER_CLAP(50),
+    TIP_JAR(51),
+    TOTAL_ECLIPSE(52),
+    TRUCULENCE(53),
+    UNSTOPPABLE_FORCE(54),
+    WHEELS(55),
+    WHIRLWIND(56),
+    X_RAY(57),
+    YOINK(58);
+
+    // X-Factor by bit number
+    private static final PLAYER_XFACTORS[] BY_BIT = new PLAYER_XFACTORS[Long.SIZE];
+
+    static {
+        for (PLAYER_XFACTORS xFactor : values()) {
+            if (xFactor.bitNumber < 0 || xFactor.bitNumber >= Long.SIZE) {
+                throw new IllegalStateException(xFactor + " has bit " + xFactor.bitNumber + ", outside a 64-bit mask");
+            }
+            if (BY_BIT[xFactor.bitNumber] != null) {
+                throw new IllegalStateException(xFactor + " and " + BY_BIT[xFactor.bitNumber] + " share bit " + xFactor.bitNumber);
+            }
+            BY_BIT[xFactor.bitNumber] = xFactor;
+        }
+    }
+
+    private final int bitNumber;
+
+    PLAYER_XFACTORS(int bitNumber) {
+        this.bitNumber = bitNumber;
+    }
+
+    /**
+     * @return This X-Factor's bit in a mask
+     */
+    public long bit() {
+        return 1L << bitNumber;
+    }
+
+    /**
+     * @return The mask holding exactly the given X-Factors
+     */
+    public static long maskOf(PLAYER_XFACTORS... xFactors) {
+        long mask = 0;
+        for (PLAYER_XFACTORS xFactor : xFactors) {
+            mask |= xFactor.bit();
+        }
+        return mask;
+    }
+
+    /**
+     * @return The mask holding exactly the given X-Factors, or 0 for null
+     */
+    public static long maskOf(Collection<PLAYER_XFACTORS> xFactors) {
+        long mask = 0;
+        if (xFactors != null) {
+            for (PLAYER_XFACTORS xFactor : xFactors) {
+                if (xFactor != null) {
+                    mask |= xFactor.bit();
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * @return The X-Factors in a mask, in bit order; bits no X-Factor uses are ignored
+     */
+    public static List<PLAYER_XFACTORS> fromMask(long mask) {
+        List<PLAYER_XFACTORS> xFactors = new ArrayList<>(Long.bitCount(mask));
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            PLAYER_XFACTORS xFactor = BY_BIT[Long.numberOfTrailingZeros(bits)];
+            if (xFactor != null) {
+                xFactors.add(xFactor);
+            }
+        }
+        return xFactors;
+    }
 }
@@ -0,0 +1,214 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * PersistentVector is an immutable list stored as a 32-way trie with a separate tail leaf. Changing it
+ * returns a new vector that copies only the path to the changed element, at most a handful of 32-slot
+ * arrays, and shares everything else with the original. Holding on to a vector is therefore a free,
+ * consistent snapshot of a list that keeps changing through {@link SnapshotList}.
+ * <p>
+ * Reads, appends and replacements are O(log32 n), which is effectively constant. Inserting or removing
+ * elements rebuilds the vector in O(n); rosters and pick inventories are small enough that this costs
+ * less than the bookkeeping a relaxed (RRB) trie would add to every read.
+ */
+public final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, new Object[WIDTH], new Object[0]);
+
+    private final int size;
+    // Bits to shift an index by to find its slot in the root; grows by BITS per level of the trie
+    private final int shift;
+    // Internal nodes hold child arrays, leaves hold elements; every node but the tail has WIDTH slots
+    private final Object[] root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * @return The empty vector
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector with the given elements. A vector is returned as is, without copying.
+     * @param elements The elements, in order
+     * @return A vector holding them
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> copyOf(Collection<? extends E> elements) {
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+        PersistentVector<E> vector = empty();
+        for (E element : elements) {
+            vector = vector.plus(element);
+        }
+        return vector;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return A vector with the element added at the end
+     */
+    public PersistentVector<E> plus(E element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+        // The tail is full: push it into the trie, adding a level when the root is full too
+        Object[] newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[] { element });
+    }
+
+    /**
+     * @return A vector with the element at the index replaced
+     */
+    public PersistentVector<E> with(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+        return new PersistentVector<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    /**
+     * @return A vector with the element inserted at the index, shifting later elements along
+     */
+    public PersistentVector<E> insert(int index, E element) {
+        if (index == size) {
+            return plus(element);
+        }
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        PersistentVector<E> vector = empty();
+        for (int i = 0; i < size; i++) {
+            if (i == index) {
+                vector = vector.plus(element);
+            }
+            vector = vector.plus(get(i));
+        }
+        return vector;
+    }
+
+    /**
+     * @return A vector without the element at the index
+     */
+    public PersistentVector<E> minus(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        if (index == size - 1 && tail.length > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        PersistentVector<E> vector = empty();
+        for (int i = 0; i < size; i++) {
+            if (i != index) {
+                vector = vector.plus(get(i));
+            }
+        }
+        return vector;
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int slot = ((size - 1) >>> level) & MASK;
+        Object[] node = parent.clone();
+        if (level == BITS) {
+            node[slot] = tailNode;
+        } else {
+            Object[] child = (Object[]) parent[slot];
+            node[slot] = child != null ? pushTail(level - BITS, child, tailNode) : newPath(level - BITS, tailNode);
+        }
+        return node;
+    }
+
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+        return node;
+    }
+
+    private static Object[] assoc(int level, Object[] node, int index, Object element) {
+        Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int slot = (index >>> level) & MASK;
+            copy[slot] = assoc(level - BITS, (Object[]) node[slot], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns an immutable snapshot of a list: the list's current vector if it is a {@link SnapshotList},
+     * otherwise a copy.
+     * @param list The list, or null
+     * @return The snapshot, empty for a null list
+     */
+    public static <E> PersistentVector<E> snapshotOf(List<E> list) {
+        if (list == null) {
+            return empty();
+        }
+        return list instanceof SnapshotList ? ((SnapshotList<E>) list).snapshot() : copyOf(list);
+    }
+}
@@ -1,19 +1,24 @@
 package com.github.loafabreadly.franchisetracker.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import lombok.Data;
 import java.util.List;
 
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class Player {
+public class Player implements HasXFactors {
+    // Stable identity assigned by FranchiseTracker; 0 until the player joins a roster
+    private long id;
     private String firstName;
     private String lastName;
     private int overall;
     private int age;
     private PLAYER_POS position;
     private PLAYER_STYLE style;
-    private List<PLAYER_XFACTORS> xFactors;
+    // X-Factors as PLAYER_XFACTORS bits
+    private long xfactorMask;
     private List<PlayerSeasonStats> careerStats;
     private Contract contract;
     
@@ -53,4 +58,13 @@ public class Player {
     public int getContractYearsRemaining() {
         return contract != null ? contract.getTermInYears() : 0;
     }
+
+    /**
+     * Reads the X-Factor list that older saves wrote by name.
+     */
+    @JsonSetter("xfactors")
+    @JsonAlias("xFactors")
+    private void readLegacyXFactors(List<PLAYER_XFACTORS> xFactors) {
+        xfactorMask = PLAYER_XFACTORS.maskOf(xFactors);
+    }
 }
@@ -1,8 +1,9 @@
 package com.github.loafabreadly.franchisetracker.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSetter;
 import lombok.Data;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -11,14 +12,16 @@ import java.util.List;
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class PlayerSnapshot {
+public class PlayerSnapshot implements HasXFactors {
+    private long playerId;
     private String firstName;
     private String lastName;
     private int overall;
     private int age;
     private PLAYER_POS position;
     private PLAYER_STYLE style;
-    private List<PLAYER_XFACTORS> xFactors;
+    // X-Factors as PLAYER_XFACTORS bits
+    private long xfactorMask;
     private PLAYER_POTENTIAL potential;
     private POTENTIAL_ACCURACY potentialAccuracy;
     
@@ -35,13 +38,14 @@ public class PlayerSnapshot {
      */
     public static PlayerSnapshot fromPlayer(Player player, int season) {
         PlayerSnapshot snapshot = new PlayerSnapshot();
+        snapshot.setPlayerId(player.getId());
         snapshot.setFirstName(player.getFirstName());
         snapshot.setLastName(player.getLastName());
         snapshot.setOverall(player.getOverall());
         snapshot.setAge(player.getAge());
         snapshot.setPosition(player.getPosition());
         snapshot.setStyle(player.getStyle());
-        snapshot.setXFactors(player.getXFactors() != null ? new ArrayList<>(player.getXFactors()) : new ArrayList<>());
+        snapshot.setXfactorMask(player.getXfactorMask());
         snapshot.setPotential(player.getPotential());
         snapshot.setPotentialAccuracy(player.getPotentialAccuracy());
         
@@ -70,4 +74,13 @@ public class PlayerSnapshot {
     public String getFullName() {
         return firstName + " " + lastName;
     }
+
+    /**
+     * Reads the X-Factor list that older saves wrote by name.
+     */
+    @JsonSetter("xfactors")
+    @JsonAlias("xFactors")
+    private void readLegacyXFactors(List<PLAYER_XFACTORS> xFactors) {
+        xfactorMask = PLAYER_XFACTORS.maskOf(xFactors);
+    }
 }
@@ -0,0 +1,24 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+/**
+ * SaveManifest is the summary written as the first field of every save, ahead of the franchise itself.
+ * It lets the Load Franchise screen describe a save by reading only its first few hundred bytes.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SaveManifest {
+    private String nhlTeam;
+    private String ahlTeam;
+    private String generalManagerName;
+    private int currentSeason;
+    private int seasonsArchived;
+    private int stanleyCups;
+    private boolean franchiseCompleted;
+    // When the save was written, in epoch milliseconds
+    private long savedAt;
+    // Pairs the save with its operation journal; 0 for saves written before journals existed
+    private long checkpointId;
+}
@@ -0,0 +1,117 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.Data;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * SeasonDelta records how a season's roster and pick inventory differ from the season before it.
+ * Each entry either points at an entry of the previous season and lists only the fields that changed,
+ * or carries a complete value for a player or pick that is new this season. Anything not listed was
+ * dropped. Stat lines never carry over, since each season's stats belong to that season alone.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SeasonDelta {
+    static final ObjectMapper TREES = new ObjectMapper();
+
+    // The combined roster lists NHL players first, then AHL players
+    private int nhlCount;
+    private List<Entry> roster = new ArrayList<>();
+    private List<Entry> futurePicks = new ArrayList<>();
+
+    /**
+     * One element of a season's roster or pick inventory.
+     */
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Entry {
+        // Index into the previous season's list, or -1 when this entry is new
+        private int from = -1;
+        // Changed fields, or the full value when new; null when nothing changed
+        private ObjectNode changes;
+    }
+
+    /**
+     * Encodes the current list against the previous one, matching elements by key.
+     * Elements sharing a key are matched in order.
+     */
+    static List<Entry> encode(List<ObjectNode> previous, List<ObjectNode> current, Function<JsonNode, Object> key) {
+        Map<Object, Deque<Integer>> byKey = new HashMap<>();
+        for (int i = 0; i < previous.size(); i++) {
+            byKey.computeIfAbsent(key.apply(previous.get(i)), k -> new ArrayDeque<>()).add(i);
+        }
+
+        List<Entry> entries = new ArrayList<>(current.size());
+        for (ObjectNode node : current) {
+            Deque<Integer> candidates = byKey.get(key.apply(node));
+            Integer from = candidates != null ? candidates.poll() : null;
+            Entry entry = new Entry();
+            if (from == null) {
+                entry.setChanges(node);
+            } else {
+                entry.setFrom(from);
+                ObjectNode changes = diff(previous.get(from), node);
+                entry.setChanges(changes.isEmpty() ? null : changes);
+            }
+            entries.add(entry);
+        }
+        return entries;
+    }
+
+    /**
+     * Rebuilds a list from the previous season's list and this season's entries.
+     */
+    static List<ObjectNode> decode(List<ObjectNode> previous, List<Entry> entries) {
+        List<ObjectNode> nodes = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            if (entry.getFrom() < 0) {
+                nodes.add(entry.getChanges().deepCopy());
+            } else {
+                ObjectNode node = previous.get(entry.getFrom()).deepCopy();
+                if (entry.getChanges() != null) {
+                    dropReplacedXFactors(node, entry.getChanges());
+                    node.setAll(entry.getChanges());
+                }
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Older deltas list X-Factors by name while newer ones carry the mask, so a change in either form
+     * replaces whichever form the previous season's node holds.
+     */
+    private static void dropReplacedXFactors(ObjectNode node, ObjectNode changes) {
+        if (changes.has("xfactors") || changes.has("xFactors")) {
+            node.remove("xfactorMask");
+        }
+        if (changes.has("xfactorMask")) {
+            node.remove(List.of("xfactors", "xFactors"));
+        }
+    }
+
+    private static ObjectNode diff(ObjectNode previous, ObjectNode current) {
+        ObjectNode changes = TREES.createObjectNode();
+        current.fields().forEachRemaining(field -> {
+            if (!field.getValue().equals(previous.get(field.getKey()))) {
+                changes.set(field.getKey(), field.getValue());
+            }
+        });
+        previous.fieldNames().forEachRemaining(name -> {
+            if (!current.has(name)) {
+                changes.putNull(name);
+            }
+        });
+        return changes;
+    }
+}
@@ -1,22 +1,49 @@
 package com.github.loafabreadly.franchisetracker.model;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.lang.ref.SoftReference;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * SeasonSnapshot captures the complete state of a franchise at the end of a season.
  * Used for historical tracking and the franchise wrap-up summary.
+ * <p>
+ * Only every {@value #KEYFRAME_INTERVAL}th snapshot in a history stores its rosters and pick inventory
+ * in full. The others store a {@link SeasonDelta} against the season before, and rebuild the full lists
+ * on demand the first time they are read. Rebuilt lists are softly cached, so browsing history stays
+ * fast while an idle franchise holds only the deltas. Only fields are serialized, never the rebuilt views.
+ * <p>
+ * A snapshot loaded from a segmented save starts out as just its header (season, team stats, awards,
+ * trades and draft class). Its body (rosters, pick inventory and delta) is fetched from the save file
+ * through a {@link BodyLoader} the first time it is needed, and may later be released again.
  */
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY,
+                getterVisibility = JsonAutoDetect.Visibility.NONE,
+                isGetterVisibility = JsonAutoDetect.Visibility.NONE)
 public class SeasonSnapshot {
+    public static final int KEYFRAME_INTERVAL = 10;
+
     private int season;
     private double capCeiling;
     private double totalCapHit;
     
-    // Deep copies of roster state at end of season
+    // Deep copies of roster state at end of season; null when the snapshot is stored as a delta
     private List<PlayerSnapshot> nhlRoster = new ArrayList<>();
     private List<PlayerSnapshot> ahlRoster = new ArrayList<>();
     
@@ -32,8 +59,54 @@ public class SeasonSnapshot {
     // Draft picks made this season
     private List<DraftedPlayer> draftPicks = new ArrayList<>();
     
-    // Future draft pick inventory at end of season
+    // Future draft pick inventory at end of season; null when the snapshot is stored as a delta
     private List<DraftPick> futurePicks = new ArrayList<>();
+
+    // Changes since the previous season; null for full (keyframe) snapshots
+    private SeasonDelta delta;
+
+    // NHL plus AHL roster size, so summaries can be shown without loading the rosters
+    private int playerCount;
+
+    // Every club in the league at the end of the season; null for seasons archived before clubs were tracked
+    private List<ClubSnapshot> league;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient SeasonSnapshot previous;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient SoftReference<State> materialized;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient BodyLoader bodyLoader;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient boolean bodyLoaded;
+
+    /**
+     * Fetches the body of a snapshot whose save file stores it separately from the header.
+     */
+    public interface BodyLoader {
+        /**
+         * Reads a snapshot's body.
+         * @param header The snapshot whose body is wanted
+         * @return A snapshot holding the rosters, pick inventory and delta
+         * @throws java.io.UncheckedIOException if the save file cannot be read
+         */
+        SeasonSnapshot loadBody(SeasonSnapshot header);
+    }
     
     /**
      * Creates a snapshot from the current franchise state.
@@ -47,6 +120,35 @@ public class SeasonSnapshot {
                                                   List<DraftedPlayer> draftPicks,
                                                   List<DraftPick> futurePicks,
                                                   double capCeiling) {
+        List<PlayerSnapshot> nhlSnapshots = new ArrayList<>(nhlRoster.size());
+        double totalCap = 0.0;
+        for (Player p : nhlRoster) {
+            nhlSnapshots.add(PlayerSnapshot.fromPlayer(p, season));
+            totalCap += p.getCapHit();
+        }
+        List<PlayerSnapshot> ahlSnapshots = new ArrayList<>(ahlRoster.size());
+        for (Player p : ahlRoster) {
+            ahlSnapshots.add(PlayerSnapshot.fromPlayer(p, season));
+        }
+        return fromSnapshots(season, nhlSnapshots, ahlSnapshots, totalCap, teamStats, awards, trades,
+                             draftPicks, futurePicks, capCeiling);
+    }
+
+    /**
+     * Creates a snapshot from player snapshots the caller has already taken. The roster lists are
+     * adopted as they are, not copied.
+     * @param totalCapHit The NHL roster's cap hit at the end of the season
+     */
+    public static SeasonSnapshot fromSnapshots(int season,
+                                               List<PlayerSnapshot> nhlRoster,
+                                               List<PlayerSnapshot> ahlRoster,
+                                               double totalCapHit,
+                                               TeamSeasonStats teamStats,
+                                               List<Award> awards,
+                                               List<Trade> trades,
+                                               List<DraftedPlayer> draftPicks,
+                                               List<DraftPick> futurePicks,
+                                               double capCeiling) {
         SeasonSnapshot snapshot = new SeasonSnapshot();
         snapshot.setSeason(season);
         snapshot.setCapCeiling(capCeiling);
@@ -54,27 +156,145 @@ public class SeasonSnapshot {
         snapshot.setAwards(new ArrayList<>(awards));
         snapshot.setTrades(new ArrayList<>(trades));
         snapshot.setDraftPicks(new ArrayList<>(draftPicks));
-        snapshot.setFuturePicks(new ArrayList<>(futurePicks));
-        
-        // Create player snapshots
-        double totalCap = 0.0;
-        for (Player p : nhlRoster) {
-            snapshot.getNhlRoster().add(PlayerSnapshot.fromPlayer(p, season));
-            totalCap += p.getCapHit();
-        }
-        for (Player p : ahlRoster) {
-            snapshot.getAhlRoster().add(PlayerSnapshot.fromPlayer(p, season));
-        }
-        snapshot.setTotalCapHit(totalCap);
-        
+        // Archived lists are never changed, so a persistent inventory is shared rather than copied
+        snapshot.setFuturePicks(PersistentVector.copyOf(futurePicks));
+        snapshot.setNhlRoster(nhlRoster);
+        snapshot.setAhlRoster(ahlRoster);
+        snapshot.setTotalCapHit(totalCapHit);
+        snapshot.setPlayerCount(nhlRoster.size() + ahlRoster.size());
         return snapshot;
     }
     
+    /**
+     * Links each snapshot in a history to the season before it and re-encodes full snapshots as deltas
+     * wherever a keyframe is not due. Safe to call repeatedly; snapshots that are already deltas are
+     * left untouched, so only newly archived or legacy snapshots do any work. Deferred bodies were
+     * compacted before they were saved, so they are linked without being loaded.
+     * @param history Season history in archive order
+     */
+    public static void compactHistory(List<SeasonSnapshot> history) {
+        if (history == null) {
+            return;
+        }
+        for (int i = 0; i < history.size(); i++) {
+            SeasonSnapshot snapshot = history.get(i);
+            snapshot.previous = i > 0 ? history.get(i - 1) : null;
+            if (!snapshot.isBodyDeferred() && snapshot.isKeyframe() && i % KEYFRAME_INTERVAL != 0) {
+                snapshot.encodeAgainst(snapshot.previous);
+            }
+        }
+    }
+
+    /**
+     * Checks whether this snapshot stores its rosters in full rather than as a delta.
+     */
+    public boolean isKeyframe() {
+        ensureBody();
+        return delta == null;
+    }
+
+    /**
+     * Gets the changes since the previous season, loading the body if needed.
+     * @return The delta, or null for a keyframe
+     */
+    public SeasonDelta getDelta() {
+        ensureBody();
+        return delta;
+    }
+
+    /**
+     * Makes this snapshot fetch its body from a save file on demand, dropping any body it holds now.
+     * @param loader The loader to fetch the body with
+     */
+    public void deferBody(BodyLoader loader) {
+        bodyLoader = loader;
+        releaseFields();
+    }
+
+    /**
+     * Checks whether this snapshot's body lives in a save file rather than only in memory.
+     */
+    public boolean isBodyDeferred() {
+        return bodyLoader != null;
+    }
+
+    /**
+     * Drops a deferred body from memory; it is fetched again the next time it is needed.
+     * Does nothing for snapshots whose body is held only in memory.
+     */
+    public void releaseBody() {
+        if (bodyLoader != null) {
+            releaseFields();
+        }
+    }
+
+    /**
+     * Creates a copy of this snapshot without its body, for saving the body separately.
+     */
+    public SeasonSnapshot headerView() {
+        SeasonSnapshot header = new SeasonSnapshot();
+        header.season = season;
+        header.capCeiling = capCeiling;
+        header.totalCapHit = totalCapHit;
+        header.teamStats = teamStats;
+        header.awards = awards;
+        header.trades = trades;
+        header.draftPicks = draftPicks;
+        // Counting rebuilds a delta season's rosters; only saves from before the count was stored lack it
+        header.playerCount = playerCount != 0 ? playerCount : getTotalPlayers();
+        header.league = league;
+        header.nhlRoster = null;
+        header.ahlRoster = null;
+        header.futurePicks = null;
+        return header;
+    }
+
+    /**
+     * Creates a copy of only this snapshot's body, loading it if needed.
+     */
+    public SeasonSnapshot bodyView() {
+        ensureBody();
+        SeasonSnapshot body = new SeasonSnapshot();
+        body.season = season;
+        body.nhlRoster = nhlRoster;
+        body.ahlRoster = ahlRoster;
+        body.futurePicks = futurePicks;
+        body.delta = delta;
+        body.awards = null;
+        body.trades = null;
+        body.draftPicks = null;
+        return body;
+    }
+
+    /**
+     * Gets the NHL roster at the end of the season, rebuilding it from deltas if needed.
+     */
+    public List<PlayerSnapshot> getNhlRoster() {
+        return isKeyframe() ? nhlRoster : state().nhlRoster;
+    }
+
+    /**
+     * Gets the AHL roster at the end of the season, rebuilding it from deltas if needed.
+     */
+    public List<PlayerSnapshot> getAhlRoster() {
+        return isKeyframe() ? ahlRoster : state().ahlRoster;
+    }
+
+    /**
+     * Gets the future pick inventory at the end of the season, rebuilding it from deltas if needed.
+     */
+    public List<DraftPick> getFuturePicks() {
+        return isKeyframe() ? futurePicks : state().futurePicks;
+    }
+
     /**
      * Gets the total number of players in the snapshot.
      */
     public int getTotalPlayers() {
-        return nhlRoster.size() + ahlRoster.size();
+        if (bodyLoader != null && !bodyLoaded) {
+            return playerCount;
+        }
+        return getNhlRoster().size() + getAhlRoster().size();
     }
     
     /**
@@ -98,4 +318,102 @@ public class SeasonSnapshot {
         return awards.stream()
             .anyMatch(a -> a.getAward() == Award.AwardType.STANLEY_CUP);
     }
+
+    private void encodeAgainst(SeasonSnapshot prior) {
+        State own = state();
+        State base = prior.state();
+        SeasonDelta encoded = new SeasonDelta();
+        encoded.setNhlCount(own.nhlRoster.size());
+        encoded.setRoster(SeasonDelta.encode(base.rosterTrees, own.rosterTrees, SeasonSnapshot::playerKey));
+        encoded.setFuturePicks(SeasonDelta.encode(base.pickTrees, own.pickTrees, SeasonSnapshot::pickKey));
+        delta = encoded;
+        nhlRoster = null;
+        ahlRoster = null;
+        futurePicks = null;
+    }
+
+    private void ensureBody() {
+        if (bodyLoader != null && !bodyLoaded) {
+            SeasonSnapshot body = bodyLoader.loadBody(this);
+            nhlRoster = body.nhlRoster;
+            ahlRoster = body.ahlRoster;
+            futurePicks = body.futurePicks;
+            delta = body.delta;
+            bodyLoaded = true;
+        }
+    }
+
+    private void releaseFields() {
+        nhlRoster = null;
+        ahlRoster = null;
+        futurePicks = null;
+        delta = null;
+        bodyLoaded = false;
+    }
+
+    private State state() {
+        State state = materialized != null ? materialized.get() : null;
+        if (state != null) {
+            return state;
+        }
+        if (isKeyframe()) {
+            List<ObjectNode> rosterTrees = new ArrayList<>();
+            nhlRoster.forEach(p -> rosterTrees.add(SeasonDelta.TREES.valueToTree(p)));
+            ahlRoster.forEach(p -> rosterTrees.add(SeasonDelta.TREES.valueToTree(p)));
+            List<ObjectNode> pickTrees = new ArrayList<>();
+            futurePicks.forEach(p -> pickTrees.add(SeasonDelta.TREES.valueToTree(p)));
+            state = new State(rosterTrees, nhlRoster.size(), pickTrees);
+        } else {
+            if (previous == null) {
+                throw new IllegalStateException("Season " + season + " is stored as a delta but is not linked to its history");
+            }
+            // Rebuilding the previous season may load and release other bodies, so hold on to this one
+            SeasonDelta own = delta;
+            State base = previous.state();
+            state = new State(SeasonDelta.decode(base.rosterTrees, own.getRoster()), own.getNhlCount(),
+                              SeasonDelta.decode(base.pickTrees, own.getFuturePicks()));
+        }
+        materialized = new SoftReference<>(state);
+        return state;
+    }
+
+    private static Object playerKey(JsonNode player) {
+        // Snapshots from before player ids existed fall back to matching by name and position
+        long id = player.path("playerId").asLong();
+        if (id != 0) {
+            return id;
+        }
+        return player.path("firstName").asText() + "|" + player.path("lastName").asText() + "|" + player.path("position").asText();
+    }
+
+    private static Object pickKey(JsonNode pick) {
+        return pick.path("year").asInt() + "|" + pick.path("round").asInt() + "|" + pick.path("originalTeam").asText();
+    }
+
+    /**
+     * Fully rebuilt rosters and picks for one season, along with the trees the next season decodes against.
+     */
+    private static final class State {
+        private final List<ObjectNode> rosterTrees;
+        private final List<ObjectNode> pickTrees;
+        private final List<PlayerSnapshot> nhlRoster;
+        private final List<PlayerSnapshot> ahlRoster;
+        private final List<DraftPick> futurePicks;
+
+        private State(List<ObjectNode> rosterTrees, int nhlCount, List<ObjectNode> pickTrees) {
+            this.rosterTrees = rosterTrees;
+            this.pickTrees = pickTrees;
+            List<PlayerSnapshot> roster = new ArrayList<>(rosterTrees.size());
+            for (ObjectNode tree : rosterTrees) {
+                roster.add(SeasonDelta.TREES.convertValue(tree, PlayerSnapshot.class));
+            }
+            List<DraftPick> picks = new ArrayList<>(pickTrees.size());
+            for (ObjectNode tree : pickTrees) {
+                picks.add(SeasonDelta.TREES.convertValue(tree, DraftPick.class));
+            }
+            this.nhlRoster = Collections.unmodifiableList(roster.subList(0, nhlCount));
+            this.ahlRoster = Collections.unmodifiableList(roster.subList(nhlCount, roster.size()));
+            this.futurePicks = Collections.unmodifiableList(picks);
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+/**
+ * SnapshotList is an ordinary mutable list whose contents are held in a {@link PersistentVector}.
+ * Each change swaps in a new vector that shares all unchanged structure with the old one, so
+ * {@link #snapshot()} hands out the current contents in O(1), and the snapshot stays as it was while
+ * the list keeps changing. Rosters and the pick inventory use it, so archiving a season or reading
+ * them from another thread never copies them.
+ * <p>
+ * Like ArrayList, the list itself is not thread-safe; its snapshots are immutable and may be shared freely.
+ */
+public class SnapshotList<E> extends AbstractList<E> implements RandomAccess {
+    private PersistentVector<E> items;
+
+    /**
+     * Creates an empty list.
+     */
+    public SnapshotList() {
+        this.items = PersistentVector.empty();
+    }
+
+    /**
+     * Creates a list holding the given elements.
+     * @param elements The elements, in order
+     */
+    public SnapshotList(Collection<? extends E> elements) {
+        this.items = PersistentVector.copyOf(elements);
+    }
+
+    /**
+     * Wraps a deserialized or caller-supplied list, leaving a SnapshotList and null as they are.
+     * @param list The list, or null
+     * @return A SnapshotList with the same elements, or null
+     */
+    public static <E> List<E> of(List<E> list) {
+        return list == null || list instanceof SnapshotList ? list : new SnapshotList<>(list);
+    }
+
+    /**
+     * @return The current contents, unaffected by later changes to this list
+     */
+    public PersistentVector<E> snapshot() {
+        return items;
+    }
+
+    @Override
+    public E get(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E previous = items.get(index);
+        items = items.with(index, element);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        items = items.insert(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        E previous = items.get(index);
+        items = items.minus(index);
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        List<E> kept = new ArrayList<>(items.size());
+        for (E element : items) {
+            if (!filter.test(element)) {
+                kept.add(element);
+            }
+        }
+        if (kept.size() == items.size()) {
+            return false;
+        }
+        items = PersistentVector.copyOf(kept);
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        items = PersistentVector.empty();
+        modCount++;
+    }
+}
@@ -17,10 +17,22 @@ public class Team {
     private List<DraftPick> draftPicks;
     private List<TeamSeasonStats> careerStats;
     private Lineup lineup;
+    // The paired club: the AHL affiliate of an NHL club, or the NHL parent of an AHL team
+    private String affiliate;
+    // Whether this is one of the two teams the franchise manages; every other team is a league club
+    private boolean managed;
     
     @JsonProperty("ahl")
     private boolean isAHL;
 
+    /**
+     * Replaces the roster, keeping it as a {@link SnapshotList} so it can be snapshotted without copying.
+     * @param roster The players
+     */
+    public void setRoster(List<Player> roster) {
+        this.roster = SnapshotList.of(roster);
+    }
+
     public void setIsAHL(boolean isAHL) {
         this.isAHL = isAHL;
     }
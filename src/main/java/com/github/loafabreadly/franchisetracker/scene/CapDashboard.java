@@ -3,11 +3,11 @@ package com.github.loafabreadly.franchisetracker.scene;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.index.CapLedger;
 import com.github.loafabreadly.franchisetracker.model.*;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.screen.Screen;
@@ -98,13 +98,12 @@ public class CapDashboard extends Panel {
         // Show next 3 years of expirations
         for (int year = tracker.getCurrentSeason(); year <= tracker.getCurrentSeason() + 3; year++) {
             final int checkYear = year;
-            List<Player> expiring = tracker.getAllPlayers().stream()
-                .filter(p -> p.getContract() != null && p.getContract().getExpirationYear() == checkYear)
+            List<Player> expiring = tracker.getExpiringContracts(checkYear).stream()
                 .sorted(Comparator.comparingDouble(Player::getCapHit).reversed())
                 .toList();
 
             expiringPanel.addComponent(new Label("--- " + year + " (" + expiring.size() + " players, $" + 
-                String.format("%.1f", expiring.stream().mapToDouble(Player::getCapHit).sum()) + "M) ---"));
+                String.format("%.1f", tracker.getCapLedger().getExpiringCapHit(checkYear)) + "M) ---"));
 
             if (expiring.isEmpty()) {
                 expiringPanel.addComponent(new Label("  None"));
@@ -133,29 +132,31 @@ public class CapDashboard extends Panel {
         posPanel.addComponent(new Label("=== Cap Hit by Position ==="));
         posPanel.addComponent(new EmptySpace());
 
-        Map<PLAYER_POS, Double> capByPos = tracker.getSelectedNHLTeam().getRoster().stream()
-            .filter(p -> p.getContract() != null && p.getPosition() != null)
-            .collect(Collectors.groupingBy(
-                Player::getPosition,
-                Collectors.summingDouble(Player::getCapHit)
-            ));
-
-        Map<PLAYER_POS, Long> countByPos = tracker.getSelectedNHLTeam().getRoster().stream()
-            .filter(p -> p.getContract() != null && p.getPosition() != null)
-            .collect(Collectors.groupingBy(
-                Player::getPosition,
-                Collectors.counting()
-            ));
+        CapLedger ledger = tracker.getCapLedger();
+        Map<PLAYER_POS, Double> capByPos = ledger.getNhlCapByPosition();
+        Map<PLAYER_POS, Integer> countByPos = ledger.getNhlCountByPosition();
 
         for (PLAYER_POS pos : PLAYER_POS.values()) {
             double cap = capByPos.getOrDefault(pos, 0.0);
-            long count = countByPos.getOrDefault(pos, 0L);
+            int count = countByPos.getOrDefault(pos, 0);
             if (count > 0) {
                 posPanel.addComponent(new Label(String.format("%-15s: %d players, $%.2fM total, $%.2fM avg",
                     pos.name(), count, cap, cap / count)));
             }
         }
 
+        posPanel.addComponent(new EmptySpace());
+        posPanel.addComponent(new Label("--- By Contract Status ---"));
+        Map<CONTRACT_STATUS, Double> capByStatus = ledger.getNhlCapByStatus();
+        Map<CONTRACT_STATUS, Integer> countByStatus = ledger.getNhlCountByStatus();
+        for (CONTRACT_STATUS status : CONTRACT_STATUS.values()) {
+            int count = countByStatus.getOrDefault(status, 0);
+            if (count > 0) {
+                posPanel.addComponent(new Label(String.format("%-15s: %d players, $%.2fM total",
+                    status.name(), count, capByStatus.getOrDefault(status, 0.0))));
+            }
+        }
+
         posPanel.addComponent(new EmptySpace());
         posPanel.addComponent(new Button("Back", () -> {
             window.setComponent(this);
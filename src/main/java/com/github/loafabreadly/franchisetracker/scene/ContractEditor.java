@@ -1,11 +1,14 @@
 package com.github.loafabreadly.franchisetracker.scene;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.PagedListView;
 import com.github.loafabreadly.franchisetracker.model.*;
 import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.gui2.*;
@@ -15,6 +18,16 @@ import com.googlecode.lanterna.screen.Screen;
  * ContractEditor provides a TUI for editing player contracts.
  */
 public class ContractEditor extends Panel {
+    private static final int PAGE_SIZE = 15;
+    private static final List<PagedListView.SortOption<Player>> SORTS = List.of(
+        new PagedListView.SortOption<>("Roster order", null),
+        new PagedListView.SortOption<>("AAV", Comparator.comparingDouble(ContractEditor::aavOf).reversed()),
+        new PagedListView.SortOption<>("Term", Comparator.comparingInt(ContractEditor::termOf).reversed()),
+        new PagedListView.SortOption<>("Last name", Comparator.comparing(Player::getLastName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))));
+
+    private final Label capLabel = new Label("");
+    private final PagedListView<Player> nhlList;
+    private final PagedListView<Player> ahlList;
 
     /**
      * Creates the contract editor panel.
@@ -26,44 +39,25 @@ public class ContractEditor extends Panel {
      */
     public ContractEditor(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         setLayoutManager(new LinearLayout(Direction.VERTICAL));
-        showPlayerList(tracker, screen, window, logger, parentPanel);
-    }
 
-    private void showPlayerList(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
-        removeAllComponents();
+        nhlList = new PagedListView<>(PAGE_SIZE, this::formatContractInfo,
+            player -> showContractForm(player, tracker, screen, window, logger, parentPanel), "  (No players)");
+        ahlList = new PagedListView<>(PAGE_SIZE, this::formatContractInfo,
+            player -> showContractForm(player, tracker, screen, window, logger, parentPanel), "  (No players)");
+
         addComponent(new Label("=== Contract Editor ==="));
-        addComponent(new Label("Cap Ceiling: $" + String.format("%.1f", tracker.getCapCeiling()) + "M | " +
-                              "Cap Hit: $" + String.format("%.1f", tracker.getTotalCapHit()) + "M | " +
-                              "Space: $" + String.format("%.1f", tracker.getCapSpace()) + "M"));
+        addComponent(capLabel);
+        addComponent(PagedListView.createControls(SORTS, tracker::searchPlayers, Player::getId, nhlList, ahlList));
         addComponent(new EmptySpace());
 
         // NHL Roster Contracts
         addComponent(new Label("--- NHL Roster (" + tracker.getSelectedNHLTeam().getName() + ") ---"));
-        if (tracker.getSelectedNHLTeam().getRoster() != null && !tracker.getSelectedNHLTeam().getRoster().isEmpty()) {
-            for (Player player : tracker.getSelectedNHLTeam().getRoster()) {
-                String contractInfo = formatContractInfo(player);
-                addComponent(new Button(contractInfo, () -> {
-                    showContractForm(player, tracker, screen, window, logger, parentPanel);
-                }));
-            }
-        } else {
-            addComponent(new Label("  (No players)"));
-        }
-
+        addComponent(nhlList);
         addComponent(new EmptySpace());
 
         // AHL Roster Contracts
         addComponent(new Label("--- AHL Roster (" + tracker.getSelectedAHLTeam().getName() + ") ---"));
-        if (tracker.getSelectedAHLTeam().getRoster() != null && !tracker.getSelectedAHLTeam().getRoster().isEmpty()) {
-            for (Player player : tracker.getSelectedAHLTeam().getRoster()) {
-                String contractInfo = formatContractInfo(player);
-                addComponent(new Button(contractInfo, () -> {
-                    showContractForm(player, tracker, screen, window, logger, parentPanel);
-                }));
-            }
-        } else {
-            addComponent(new Label("  (No players)"));
-        }
+        addComponent(ahlList);
 
         addComponent(new EmptySpace());
         addComponent(new Button("Adjust Cap Ceiling", () -> {
@@ -72,6 +66,16 @@ public class ContractEditor extends Panel {
         addComponent(new Button("Back", () -> {
             window.setComponent(parentPanel);
         }));
+
+        showPlayerList(tracker);
+    }
+
+    private void showPlayerList(FranchiseTracker tracker) {
+        capLabel.setText("Cap Ceiling: $" + String.format("%.1f", tracker.getCapCeiling()) + "M | " +
+                         "Cap Hit: $" + String.format("%.1f", tracker.getTotalCapHit()) + "M | " +
+                         "Space: $" + String.format("%.1f", tracker.getCapSpace()) + "M");
+        nhlList.setItems(tracker.getSelectedNHLTeam().getRoster());
+        ahlList.setItems(tracker.getSelectedAHLTeam().getRoster());
     }
 
     private String formatContractInfo(Player player) {
@@ -87,6 +91,14 @@ public class ContractEditor extends Panel {
         }
     }
 
+    private static double aavOf(Player player) {
+        return player.getContract() != null ? player.getContract().getAav() : 0;
+    }
+
+    private static int termOf(Player player) {
+        return player.getContract() != null ? player.getContract().getTermInYears() : 0;
+    }
+
     private void showContractForm(Player player, FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel formPanel = new Panel();
         formPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -154,14 +166,14 @@ public class ContractEditor extends Panel {
             }
             contract.setTwoWay(twoWayCheck.isChecked());
             
-            player.setContract(contract);
-            showPlayerList(tracker, screen, window, logger, parentPanel);
+            tracker.updateContract(player, contract);
+            showPlayerList(tracker);
             window.setComponent(this);
         }));
 
         formPanel.addComponent(new Button("Remove Contract", () -> {
-            player.setContract(null);
-            showPlayerList(tracker, screen, window, logger, parentPanel);
+            tracker.updateContract(player, null);
+            showPlayerList(tracker);
             window.setComponent(this);
         }));
 
@@ -194,7 +206,8 @@ public class ContractEditor extends Panel {
         formPanel.addComponent(new Button("Save", () -> {
             tracker.setCapCeiling(Double.parseDouble(ceilingBox.getText().isEmpty() ? "88.0" : ceilingBox.getText()));
             tracker.setCapFloor(Double.parseDouble(floorBox.getText().isEmpty() ? "65.0" : floorBox.getText()));
-            showPlayerList(tracker, screen, window, logger, parentPanel);
+            tracker.requestAutosave();
+            showPlayerList(tracker);
             window.setComponent(this);
         }));
 
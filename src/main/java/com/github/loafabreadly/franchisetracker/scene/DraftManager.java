@@ -124,6 +124,7 @@ public class DraftManager extends Panel {
             pick.setTradedFrom(fromTeamBox.getText());
             
             tracker.getFutureDraftPicks().add(pick);
+            tracker.requestAutosave();
             showPickInventory(tracker, screen, window, logger, parentPanel);
         }));
 
@@ -308,10 +309,11 @@ public class DraftManager extends Panel {
             );
             
             if (draftee.getPlayer() != null) {
-                draftee.getPlayer().setContract(contract);
+                tracker.updateContract(draftee.getPlayer(), contract);
             }
             draftee.setSignedToContract(true);
             draftee.setSignedYear(tracker.getCurrentSeason());
+            tracker.requestAutosave();
 
             showUnsignedDraftees(tracker, screen, window, logger, parentPanel);
         }));
@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.index.LeadersIndex;
 import com.github.loafabreadly.franchisetracker.model.*;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.screen.Screen;
@@ -183,60 +184,33 @@ public class FranchiseWrapUp extends Panel {
         leadersPanel.addComponent(new Label("=== All-Time Franchise Leaders ==="));
         leadersPanel.addComponent(new EmptySpace());
 
-        // Collect all players who have ever been on the roster
         List<SeasonSnapshot> history = tracker.getSeasonHistory();
         if (history == null || history.isEmpty()) {
             leadersPanel.addComponent(new Label("No historical data available."));
         } else {
-            // Build career totals from snapshots
-            Map<String, int[]> careerStats = new java.util.HashMap<>(); // name -> [gp, g, a, pts]
-            
-            for (SeasonSnapshot s : history) {
-                for (PlayerSnapshot ps : s.getNhlRoster()) {
-                    if (ps.getSeasonStats() != null) {
-                        PlayerSeasonStats stats = ps.getSeasonStats();
-                        careerStats.computeIfAbsent(ps.getFullName(), k -> new int[4]);
-                        int[] totals = careerStats.get(ps.getFullName());
-                        totals[0] += stats.getGamesPlayed();
-                        totals[1] += stats.getGoals();
-                        totals[2] += stats.getAssists();
-                        totals[3] += stats.getPoints();
-                    }
-                }
-            }
+            // Career totals are maintained incrementally as seasons are archived
+            LeadersIndex leaders = tracker.getLeadersIndex();
+            List<CareerTotals> pointsLeaders = leaders.getLeaders(LeadersIndex.Stat.POINTS, 10);
 
-            if (careerStats.isEmpty()) {
+            if (leaders.getTotals().isEmpty()) {
                 leadersPanel.addComponent(new Label("No player statistics recorded."));
             } else {
-                // Sort by points
-                List<Map.Entry<String, int[]>> sorted = careerStats.entrySet().stream()
-                    .sorted((a, b) -> Integer.compare(b.getValue()[3], a.getValue()[3]))
-                    .limit(10)
-                    .toList();
-
                 leadersPanel.addComponent(new Label("--- Points Leaders ---"));
                 leadersPanel.addComponent(new Label(String.format("%-20s | GP  |  G  |  A  | Pts", "Player")));
                 leadersPanel.addComponent(new Label("─".repeat(50)));
                 
                 int rank = 1;
-                for (Map.Entry<String, int[]> e : sorted) {
-                    int[] t = e.getValue();
+                for (CareerTotals t : pointsLeaders) {
                     leadersPanel.addComponent(new Label(String.format("%2d. %-17s | %3d | %3d | %3d | %3d",
-                        rank++, e.getKey().substring(0, Math.min(17, e.getKey().length())),
-                        t[0], t[1], t[2], t[3])));
+                        rank++, t.getName().substring(0, Math.min(17, t.getName().length())),
+                        t.getGamesPlayed(), t.getGoals(), t.getAssists(), t.getPoints())));
                 }
 
-                // Goals leaders
-                leadersPanel.addComponent(new EmptySpace());
-                leadersPanel.addComponent(new Label("--- Goals Leaders ---"));
-                List<Map.Entry<String, int[]>> goalsSorted = careerStats.entrySet().stream()
-                    .sorted((a, b) -> Integer.compare(b.getValue()[1], a.getValue()[1]))
-                    .limit(5)
-                    .toList();
-                for (Map.Entry<String, int[]> e : goalsSorted) {
-                    leadersPanel.addComponent(new Label(String.format("  %-20s: %d goals",
-                        e.getKey().substring(0, Math.min(20, e.getKey().length())), e.getValue()[1])));
-                }
+                addLeaderSection(leadersPanel, leaders, LeadersIndex.Stat.GOALS, "Goals Leaders", "goals");
+                addLeaderSection(leadersPanel, leaders, LeadersIndex.Stat.ASSISTS, "Assists Leaders", "assists");
+                addLeaderSection(leadersPanel, leaders, LeadersIndex.Stat.GAMES_PLAYED, "Games Played Leaders", "games");
+                addLeaderSection(leadersPanel, leaders, LeadersIndex.Stat.WINS, "Goalie Wins Leaders", "wins");
+                addLeaderSection(leadersPanel, leaders, LeadersIndex.Stat.SHUTOUTS, "Shutout Leaders", "shutouts");
             }
         }
 
@@ -248,6 +222,19 @@ public class FranchiseWrapUp extends Panel {
         window.setComponent(leadersPanel);
     }
 
+    private void addLeaderSection(Panel leadersPanel, LeadersIndex leaders, LeadersIndex.Stat stat, String title, String unit) {
+        List<CareerTotals> top = leaders.getLeaders(stat, 5);
+        if (top.isEmpty()) {
+            return;
+        }
+        leadersPanel.addComponent(new EmptySpace());
+        leadersPanel.addComponent(new Label("--- " + title + " ---"));
+        for (CareerTotals t : top) {
+            leadersPanel.addComponent(new Label(String.format("  %-20s: %d %s",
+                t.getName().substring(0, Math.min(20, t.getName().length())), stat.of(t), unit)));
+        }
+    }
+
     private void showFullAwardHistory(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel awardsPanel = new Panel();
         awardsPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -1,14 +1,18 @@
 package com.github.loafabreadly.franchisetracker.scene;
 
+import java.util.concurrent.CompletionException;
 import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
 import com.github.loafabreadly.franchisetracker.Utils;
+import com.github.loafabreadly.franchisetracker.service.AutosaveService;
+import com.github.loafabreadly.franchisetracker.service.SaveFormat;
 import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.gui2.BasicWindow;
 import com.googlecode.lanterna.gui2.Button;
+import com.googlecode.lanterna.gui2.CheckBox;
 import com.googlecode.lanterna.gui2.Direction;
 import com.googlecode.lanterna.gui2.EmptySpace;
 import com.googlecode.lanterna.gui2.Label;
@@ -31,6 +35,11 @@ public class Game extends Panel {
      */
     public Game(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger) {
         setLayoutManager(new LinearLayout(Direction.VERTICAL));
+
+        // Autosave captures the tracker on the GUI thread, so it can only start once the window is shown
+        if (tracker.getAutosaveService() == null && window.getTextGUI() != null) {
+            tracker.setAutosaveService(new AutosaveService(tracker, window.getTextGUI().getGUIThread()::invokeLater));
+        }
         
         addComponent(new Label("=== " + tracker.getSelectedNHLTeam().getName() + " ==="));
         addComponent(new Label("GM: " + tracker.getGeneralManagerName()));
@@ -122,15 +131,34 @@ public class Game extends Panel {
             TextBox fileNameBox = new TextBox().setValidationPattern(Pattern.compile(".*")).setPreferredSize(new TerminalSize(30, 1));
             savePanel.addComponent(new Label("Enter filename to save (e.g., save):"));
             savePanel.addComponent(fileNameBox);
+            CheckBox binaryBox = new CheckBox("Compact binary format").setChecked(tracker.getSaveFormat() == SaveFormat.SMILE);
+            savePanel.addComponent(binaryBox);
+            Label statusLabel = new Label("");
             Button saveButton = new Button("Save", () -> {
                 String fileName = Utils.validateSaveName(fileNameBox.getText());
                 try {
-                    tracker.saveFranchise(fileName);
-                    window.setTitle("Franchise Tracker - " + tracker.getSelectedNHLTeam().getName());
-                    window.setComponent(this);
+                    tracker.setSaveFormat(binaryBox.isChecked() ? SaveFormat.SMILE : SaveFormat.JSON);
+                    if (tracker.getAutosaveService() != null) {
+                        tracker.setSaveFilePath(fileName);
+                        statusLabel.setText("Saving...");
+                        // The write finishes on the autosave thread; report its outcome back on the GUI thread
+                        tracker.getAutosaveService().saveNow().whenCompleteAsync((done, error) -> {
+                            if (error != null) {
+                                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                                statusLabel.setText("Error saving: " + cause.getMessage());
+                            } else {
+                                window.setTitle("Franchise Tracker - " + tracker.getSelectedNHLTeam().getName());
+                                window.setComponent(this);
+                            }
+                        }, window.getTextGUI().getGUIThread()::invokeLater);
+                    } else {
+                        tracker.saveFranchise(fileName);
+                        window.setTitle("Franchise Tracker - " + tracker.getSelectedNHLTeam().getName());
+                        window.setComponent(this);
+                    }
                 } catch (Exception e) {
                     logger.error("Error saving: ", e);
-                    savePanel.addComponent(new Label("Error saving: " + e.getMessage()));
+                    statusLabel.setText("Error saving: " + e.getMessage());
                 }
             });
             Button backButton = new Button("Back", () -> {
@@ -139,14 +167,17 @@ public class Game extends Panel {
             });
             savePanel.addComponent(saveButton);
             savePanel.addComponent(backButton);
+            savePanel.addComponent(statusLabel);
             window.setComponent(savePanel);
         }));
 
         addComponent(new Button("Return to Main Menu", () -> {
+            closeAutosave(tracker);
             MainMenu.createMenu();
         }));
 
         addComponent(new Button("Exit", () -> {
+            closeAutosave(tracker);
             try {
                 screen.stopScreen();
             } catch (Exception e) {
@@ -157,6 +188,18 @@ public class Game extends Panel {
         }));
     }
 
+    /**
+     * Writes any pending autosave, detaches the service from the tracker and closes its save file.
+     * @param tracker The franchise tracker instance
+     */
+    private void closeAutosave(FranchiseTracker tracker) {
+        if (tracker.getAutosaveService() != null) {
+            tracker.getAutosaveService().close();
+            tracker.setAutosaveService(null);
+        }
+        tracker.closeSeasonSegments();
+    }
+
     private void showRosterSummary(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger) {
         Panel summaryPanel = new Panel();
         summaryPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
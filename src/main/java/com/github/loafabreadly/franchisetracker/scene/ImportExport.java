@@ -1,10 +1,9 @@
 package com.github.loafabreadly.franchisetracker.scene;
 
 import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 import org.apache.logging.log4j.Logger;
 
@@ -12,6 +11,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
 import com.github.loafabreadly.franchisetracker.model.*;
+import com.github.loafabreadly.franchisetracker.service.FranchiseDataService;
+import com.github.loafabreadly.franchisetracker.service.RosterCsvImporter;
+import com.github.loafabreadly.franchisetracker.service.RosterExporter;
+import com.github.loafabreadly.franchisetracker.service.SaveFormat;
 import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.screen.Screen;
@@ -22,6 +25,7 @@ import com.googlecode.lanterna.screen.Screen;
 public class ImportExport extends Panel {
 
     private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final int MAX_ERRORS_SHOWN = 10;
 
     /**
      * Creates the import/export panel.
@@ -62,6 +66,10 @@ public class ImportExport extends Panel {
             showCSVTemplate(tracker, screen, window, logger, parentPanel);
         }));
 
+        addComponent(new Button("Convert Save File Format", () -> {
+            showConvertSave(tracker, screen, window, logger, parentPanel);
+        }));
+
         addComponent(new EmptySpace());
         addComponent(new Button("Back", () -> {
             window.setComponent(parentPanel);
@@ -82,7 +90,7 @@ public class ImportExport extends Panel {
         exportPanel.addComponent(new Button("Export", () -> {
             try {
                 String fileName = fileNameBox.getText();
-                exportRosterToCSV(tracker, fileName);
+                RosterExporter.exportCsv(tracker, fileName);
                 exportPanel.addComponent(new Label("✓ Exported to " + fileName));
             } catch (Exception e) {
                 logger.error("Export failed", e);
@@ -97,47 +105,6 @@ public class ImportExport extends Panel {
         window.setComponent(exportPanel);
     }
 
-    private void exportRosterToCSV(FranchiseTracker tracker, String fileName) throws IOException {
-        StringBuilder sb = new StringBuilder();
-        sb.append("League,FirstName,LastName,Position,Overall,Age,Potential,AAV,ContractYears,Status\n");
-
-        // NHL roster
-        if (tracker.getSelectedNHLTeam().getRoster() != null) {
-            for (Player p : tracker.getSelectedNHLTeam().getRoster()) {
-                sb.append(formatPlayerCSV("NHL", p));
-            }
-        }
-
-        // AHL roster
-        if (tracker.getSelectedAHLTeam().getRoster() != null) {
-            for (Player p : tracker.getSelectedAHLTeam().getRoster()) {
-                sb.append(formatPlayerCSV("AHL", p));
-            }
-        }
-
-        Files.writeString(Path.of(fileName), sb.toString());
-    }
-
-    private String formatPlayerCSV(String league, Player p) {
-        String potential = p.getPotential() != null ? p.getPotential().name() : "";
-        double aav = p.getContract() != null ? p.getContract().getAav() : 0;
-        int years = p.getContract() != null ? p.getContract().getTermInYears() : 0;
-        String status = p.getContract() != null && p.getContract().getStatus() != null 
-            ? p.getContract().getStatus().name() : "";
-        
-        return String.format("%s,%s,%s,%s,%d,%d,%s,%.2f,%d,%s\n",
-            league,
-            p.getFirstName(),
-            p.getLastName(),
-            p.getPosition() != null ? p.getPosition().name() : "",
-            p.getOverall(),
-            p.getAge(),
-            potential,
-            aav,
-            years,
-            status);
-    }
-
     private void showExportJSON(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel exportPanel = new Panel();
         exportPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -152,7 +119,7 @@ public class ImportExport extends Panel {
         exportPanel.addComponent(new Button("Export", () -> {
             try {
                 String fileName = fileNameBox.getText();
-                exportRosterToJSON(tracker, fileName);
+                RosterExporter.exportJson(tracker, fileName);
                 exportPanel.addComponent(new Label("✓ Exported to " + fileName));
             } catch (Exception e) {
                 logger.error("Export failed", e);
@@ -167,16 +134,6 @@ public class ImportExport extends Panel {
         window.setComponent(exportPanel);
     }
 
-    private void exportRosterToJSON(FranchiseTracker tracker, String fileName) throws IOException {
-        RosterExport export = new RosterExport();
-        export.nhlTeam = tracker.getSelectedNHLTeam().getName();
-        export.ahlTeam = tracker.getSelectedAHLTeam().getName();
-        export.nhlRoster = tracker.getSelectedNHLTeam().getRoster();
-        export.ahlRoster = tracker.getSelectedAHLTeam().getRoster();
-        
-        mapper.writeValue(new File(fileName), export);
-    }
-
     private void showImportCSV(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel importPanel = new Panel();
         importPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -192,8 +149,18 @@ public class ImportExport extends Panel {
             for (File file : csvFiles) {
                 importPanel.addComponent(new Button(file.getName(), () -> {
                     try {
-                        int imported = importRosterFromCSV(tracker, file.getName());
-                        importPanel.addComponent(new Label("✓ Imported " + imported + " players"));
+                        RosterCsvImporter.ImportReport report = RosterCsvImporter.importRoster(tracker, file.getName());
+                        importPanel.addComponent(new Label("✓ Imported " + report.getImported() + " players"));
+                        if (!report.getErrors().isEmpty()) {
+                            importPanel.addComponent(new Label("✗ Skipped " + report.getErrors().size() + " rows:"));
+                            for (RosterCsvImporter.RowError error : report.getErrors().stream().limit(MAX_ERRORS_SHOWN).toList()) {
+                                importPanel.addComponent(new Label("  " + error));
+                            }
+                            if (report.getErrors().size() > MAX_ERRORS_SHOWN) {
+                                importPanel.addComponent(new Label("  ... see log for the rest"));
+                                report.getErrors().forEach(error -> logger.warn("CSV import skipped {}", error));
+                            }
+                        }
                     } catch (Exception e) {
                         logger.error("Import failed", e);
                         importPanel.addComponent(new Label("✗ Error: " + e.getMessage()));
@@ -212,67 +179,6 @@ public class ImportExport extends Panel {
         window.setComponent(importPanel);
     }
 
-    private int importRosterFromCSV(FranchiseTracker tracker, String fileName) throws IOException {
-        List<String> lines = Files.readAllLines(Path.of(fileName));
-        int imported = 0;
-
-        // Skip header
-        for (int i = 1; i < lines.size(); i++) {
-            String line = lines.get(i);
-            if (line.trim().isEmpty()) continue;
-
-            String[] parts = line.split(",");
-            if (parts.length < 6) continue;
-
-            Player player = new Player();
-            String league = parts[0].trim();
-            player.setFirstName(parts[1].trim());
-            player.setLastName(parts[2].trim());
-            
-            if (!parts[3].trim().isEmpty()) {
-                try {
-                    player.setPosition(PLAYER_POS.valueOf(parts[3].trim()));
-                } catch (IllegalArgumentException ignored) {}
-            }
-            
-            player.setOverall(Integer.parseInt(parts[4].trim()));
-            player.setAge(Integer.parseInt(parts[5].trim()));
-            
-            if (parts.length > 6 && !parts[6].trim().isEmpty()) {
-                try {
-                    player.setPotential(PLAYER_POTENTIAL.valueOf(parts[6].trim()));
-                } catch (IllegalArgumentException ignored) {}
-            }
-            
-            if (parts.length > 8) {
-                double aav = Double.parseDouble(parts[7].trim());
-                int years = Integer.parseInt(parts[8].trim());
-                if (aav > 0 || years > 0) {
-                    Contract contract = new Contract();
-                    contract.setAav(aav);
-                    contract.setTermInYears(years);
-                    if (parts.length > 9 && !parts[9].trim().isEmpty()) {
-                        try {
-                            contract.setStatus(CONTRACT_STATUS.valueOf(parts[9].trim()));
-                        } catch (IllegalArgumentException ignored) {}
-                    }
-                    player.setContract(contract);
-                }
-            }
-            
-            player.setCareerStats(new ArrayList<>());
-
-            if ("AHL".equalsIgnoreCase(league)) {
-                tracker.addPlayerToAHL(player);
-            } else {
-                tracker.addPlayerToNHL(player);
-            }
-            imported++;
-        }
-
-        return imported;
-    }
-
     private void showImportJSON(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel importPanel = new Panel();
         importPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -331,6 +237,77 @@ public class ImportExport extends Panel {
         return imported;
     }
 
+    private void showConvertSave(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
+        Panel convertPanel = new Panel();
+        convertPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
+        convertPanel.addComponent(new Label("=== Convert Save File Format ==="));
+        convertPanel.addComponent(new Label("Switches a save between JSON and compact binary, in place."));
+        convertPanel.addComponent(new EmptySpace());
+
+        File dir = new File(System.getProperty("user.dir"));
+        File[] nhlFiles = dir.listFiles((d, name) -> name.endsWith(".nhl"));
+
+        if (nhlFiles != null && nhlFiles.length > 0) {
+            for (File file : nhlFiles) {
+                SaveFormat current;
+                try {
+                    current = FranchiseDataService.detectFormat(file.getName());
+                } catch (IOException e) {
+                    logger.error("Unable to read " + file.getName(), e);
+                    continue;
+                }
+                SaveFormat target = current == SaveFormat.JSON ? SaveFormat.SMILE : SaveFormat.JSON;
+                convertPanel.addComponent(new Button(file.getName() + " (" + current + " -> " + target + ")", () -> {
+                    try {
+                        if (file.getName().equals(tracker.getSaveFilePath())) {
+                            convertOpenSave(tracker, target, window, convertPanel, file.getName());
+                            return;
+                        }
+                        FranchiseDataService.convert(file.getName(), file.getName(), target);
+                        convertPanel.addComponent(new Label("✓ Converted " + file.getName() + " to " + target));
+                    } catch (Exception e) {
+                        logger.error("Conversion failed", e);
+                        convertPanel.addComponent(new Label("✗ Error: " + e.getMessage()));
+                    }
+                }));
+            }
+        } else {
+            convertPanel.addComponent(new Label("No .nhl save files found in current directory."));
+        }
+
+        convertPanel.addComponent(new EmptySpace());
+        convertPanel.addComponent(new Button("Back", () -> {
+            window.setComponent(this);
+        }));
+
+        window.setComponent(convertPanel);
+    }
+
+    /**
+     * Converts the save the franchise is open from by saving it again in the new format. Converting the file
+     * underneath the tracker would give it a checkpoint the tracker and its journal do not know about, and
+     * edits journaled afterwards would be ignored on the next load.
+     */
+    private void convertOpenSave(FranchiseTracker tracker, SaveFormat target, BasicWindow window, Panel convertPanel, String fileName) throws IOException {
+        tracker.setSaveFormat(target);
+        if (tracker.getAutosaveService() == null) {
+            tracker.saveFranchise(fileName);
+            convertPanel.addComponent(new Label("✓ Converted " + fileName + " to " + target));
+            return;
+        }
+        Label status = new Label("Converting " + fileName + "...");
+        convertPanel.addComponent(status);
+        // The write finishes on the autosave thread; report its outcome back on the GUI thread
+        tracker.getAutosaveService().saveNow().whenCompleteAsync((done, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                status.setText("✗ Error: " + cause.getMessage());
+            } else {
+                status.setText("✓ Converted " + fileName + " to " + target);
+            }
+        }, window.getTextGUI().getGUIThread()::invokeLater);
+    }
+
     private void showCSVTemplate(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel templatePanel = new Panel();
         templatePanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -345,6 +322,7 @@ public class ImportExport extends Panel {
         templatePanel.addComponent(new Label("NHL,Connor,McDavid,CENTER,97,28,FRANCHISE,12.50,5,UFA"));
         templatePanel.addComponent(new Label("NHL,Leon,Draisaitl,CENTER,94,29,ELITE,8.50,3,UFA"));
         templatePanel.addComponent(new Label("AHL,Dylan,Holloway,LEFT_WING,78,22,TOP_6F,0.92,2,RFA"));
+        templatePanel.addComponent(new Label("Wrap a field in double quotes if it contains a comma or quote."));
         templatePanel.addComponent(new EmptySpace());
 
         templatePanel.addComponent(new Label("Valid Positions:"));
@@ -167,6 +167,7 @@ public class LineupEditor extends Panel {
                 } else if (targetList.size() < maxSlots) {
                     targetList.add(player);
                 }
+                tracker.requestAutosave();
                 showPositionEditor(tracker, screen, window, logger, parentPanel, positionType);
             }));
         }
@@ -178,6 +179,7 @@ public class LineupEditor extends Panel {
         editorPanel.addComponent(new EmptySpace());
         editorPanel.addComponent(new Button("Clear All", () -> {
             targetList.clear();
+            tracker.requestAutosave();
             showPositionEditor(tracker, screen, window, logger, parentPanel, positionType);
         }));
 
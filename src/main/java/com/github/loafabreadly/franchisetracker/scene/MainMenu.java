@@ -1,12 +1,16 @@
 package com.github.loafabreadly.franchisetracker.scene;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
 import com.github.loafabreadly.franchisetracker.Utils;
+import com.github.loafabreadly.franchisetracker.model.SaveManifest;
+import com.github.loafabreadly.franchisetracker.service.SaveCatalog;
 import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.gui2.BasicWindow;
 import com.googlecode.lanterna.gui2.Button;
@@ -100,14 +104,20 @@ public class MainMenu extends Panel {
             window.setTitle("Load Franchise");
             Panel loadPanel = new Panel();
             loadPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
-            java.io.File dir = new java.io.File(System.getProperty("user.dir"));
-            java.io.File[] nhlFiles = dir.listFiles((d, name) -> name.endsWith(".nhl"));
-            if (nhlFiles != null && nhlFiles.length > 0) {
-                for (java.io.File file : nhlFiles) {
-                    loadPanel.addComponent(new Button(file.getName(), () -> {
-                        logger.error("Loading franchise from file: " + file.getName());
+            List<SaveCatalog.Entry> saves;
+            try {
+                saves = SaveCatalog.scan(Path.of(System.getProperty("user.dir")));
+            } catch (Exception e) {
+                logger.error("Error listing saves: ", e);
+                saves = new ArrayList<>();
+            }
+            if (!saves.isEmpty()) {
+                for (SaveCatalog.Entry save : saves) {
+                    loadPanel.addComponent(new Button(describeSave(save), () -> {
+                        logger.error("Loading franchise from file: " + save.getFileName());
                         try {
-                            tracker = tracker.loadFranchise(file.getName());
+                            tracker = tracker.loadFranchise(save.getFileName());
+                            logger.error(tracker.getLoadSummary());
                             window.setTitle("Franchise Tracker - " + tracker.getSelectedNHLTeam().getName());
                             Panel gamePanel = new Game(tracker, screen, window, logger);
                             window.setComponent(gamePanel);
@@ -145,4 +155,24 @@ public class MainMenu extends Panel {
             return null;
         }
     }
+
+    private static String describeSave(SaveCatalog.Entry save) {
+        SaveManifest manifest = save.getManifest();
+        if (save.isUnreadable()) {
+            return save.getFileName() + " | (unreadable)";
+        }
+        if (manifest == null) {
+            return save.getFileName() + " | (details shown after next save)";
+        }
+        String cups = manifest.getStanleyCups() > 0 ? " | Cups: " + manifest.getStanleyCups() : "";
+        String completed = manifest.isFranchiseCompleted() ? " | Completed" : "";
+        return String.format("%s | %s | GM: %s | Season %d (%d archived)%s%s",
+            save.getFileName(),
+            manifest.getNhlTeam() != null ? manifest.getNhlTeam() : "N/A",
+            manifest.getGeneralManagerName() != null ? manifest.getGeneralManagerName() : "N/A",
+            manifest.getCurrentSeason(),
+            manifest.getSeasonsArchived(),
+            cups,
+            completed);
+    }
 }
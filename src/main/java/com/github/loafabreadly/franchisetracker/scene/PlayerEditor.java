@@ -2,12 +2,15 @@ package com.github.loafabreadly.franchisetracker.scene;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.PagedListView;
 import com.github.loafabreadly.franchisetracker.model.*;
 import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.gui2.*;
@@ -17,6 +20,16 @@ import com.googlecode.lanterna.screen.Screen;
  * PlayerEditor provides a TUI for adding, editing, and removing players from the roster.
  */
 public class PlayerEditor extends Panel {
+    private static final int PAGE_SIZE = 15;
+    private static final List<PagedListView.SortOption<Player>> SORTS = List.of(
+        new PagedListView.SortOption<>("Roster order", null),
+        new PagedListView.SortOption<>("Overall", Comparator.comparingInt(Player::getOverall).reversed()),
+        new PagedListView.SortOption<>("Last name", Comparator.comparing(Player::getLastName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))),
+        new PagedListView.SortOption<>("Position", Comparator.comparing(Player::getPosition, Comparator.nullsLast(Comparator.naturalOrder()))),
+        new PagedListView.SortOption<>("Age", Comparator.comparingInt(Player::getAge)));
+
+    private final PagedListView<Player> nhlList;
+    private final PagedListView<Player> ahlList;
 
     /**
      * Creates the player editor panel.
@@ -28,64 +41,52 @@ public class PlayerEditor extends Panel {
      */
     public PlayerEditor(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         setLayoutManager(new LinearLayout(Direction.VERTICAL));
-        addComponent(new Label("=== Player Editor ==="));
-        addComponent(new EmptySpace());
 
-        // Show current roster
-        refreshRosterView(tracker, screen, window, logger, parentPanel);
-    }
+        // Each list keeps a fixed page of rows; refreshing only re-reads the rosters
+        nhlList = new PagedListView<>(PAGE_SIZE, PlayerEditor::formatPlayerRow,
+            player -> showPlayerActions(player, tracker, screen, window, logger, parentPanel, false),
+            "  (No players on roster)");
+        ahlList = new PagedListView<>(PAGE_SIZE, PlayerEditor::formatPlayerRow,
+            player -> showPlayerActions(player, tracker, screen, window, logger, parentPanel, true),
+            "  (No players on roster)");
 
-    private void refreshRosterView(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
-        removeAllComponents();
-        setLayoutManager(new LinearLayout(Direction.VERTICAL));
         addComponent(new Label("=== Player Editor ==="));
+        addComponent(PagedListView.createControls(SORTS, tracker::searchPlayers, Player::getId, nhlList, ahlList));
         addComponent(new EmptySpace());
 
-        // NHL Roster section
         addComponent(new Label("--- NHL Roster (" + tracker.getSelectedNHLTeam().getName() + ") ---"));
-        if (tracker.getSelectedNHLTeam().getRoster() != null && !tracker.getSelectedNHLTeam().getRoster().isEmpty()) {
-            for (Player player : tracker.getSelectedNHLTeam().getRoster()) {
-                String potStr = player.getPotential() != null ? " [" + player.getPotential().getDisplayName() + "]" : "";
-                String playerInfo = String.format("%s %s | %s | OVR: %d%s", 
-                    player.getFirstName(), player.getLastName(), 
-                    player.getPosition() != null ? player.getPosition().name() : "N/A",
-                    player.getOverall(),
-                    potStr);
-                addComponent(new Button(playerInfo, () -> {
-                    showPlayerActions(player, tracker, screen, window, logger, parentPanel, false);
-                }));
-            }
-        } else {
-            addComponent(new Label("  (No players on roster)"));
-        }
-
+        addComponent(nhlList);
         addComponent(new EmptySpace());
 
-        // AHL Roster section
         addComponent(new Label("--- AHL Roster (" + tracker.getSelectedAHLTeam().getName() + ") ---"));
-        if (tracker.getSelectedAHLTeam().getRoster() != null && !tracker.getSelectedAHLTeam().getRoster().isEmpty()) {
-            for (Player player : tracker.getSelectedAHLTeam().getRoster()) {
-                String potStr = player.getPotential() != null ? " [" + player.getPotential().getDisplayName() + "]" : "";
-                String playerInfo = String.format("%s %s | %s | OVR: %d%s", 
-                    player.getFirstName(), player.getLastName(), 
-                    player.getPosition() != null ? player.getPosition().name() : "N/A",
-                    player.getOverall(),
-                    potStr);
-                addComponent(new Button(playerInfo, () -> {
-                    showPlayerActions(player, tracker, screen, window, logger, parentPanel, true);
-                }));
-            }
-        } else {
-            addComponent(new Label("  (No players on roster)"));
-        }
+        addComponent(ahlList);
 
         addComponent(new EmptySpace());
         addComponent(new Button("Add New Player", () -> {
             showAddPlayerForm(tracker, screen, window, logger, parentPanel);
         }));
+        addComponent(new Button("Find by X-Factors", () -> {
+            showXFactorSearch(tracker, screen, window, logger, parentPanel);
+        }));
         addComponent(new Button("Back", () -> {
             window.setComponent(parentPanel);
         }));
+
+        refreshRosterView(tracker);
+    }
+
+    private void refreshRosterView(FranchiseTracker tracker) {
+        nhlList.setItems(tracker.getSelectedNHLTeam().getRoster());
+        ahlList.setItems(tracker.getSelectedAHLTeam().getRoster());
+    }
+
+    private static String formatPlayerRow(Player player) {
+        String potStr = player.getPotential() != null ? " [" + player.getPotential().getDisplayName() + "]" : "";
+        return String.format("%s %s | %s | OVR: %d%s",
+            player.getFirstName(), player.getLastName(),
+            player.getPosition() != null ? player.getPosition().name() : "N/A",
+            player.getOverall(),
+            potStr);
     }
 
     private void showPlayerActions(Player player, FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel, boolean isAHL) {
@@ -102,8 +103,8 @@ public class PlayerEditor extends Panel {
         if (player.getStyle() != null) {
             actionPanel.addComponent(new Label("Play Style: " + player.getStyle().name()));
         }
-        if (player.getXFactors() != null && !player.getXFactors().isEmpty()) {
-            actionPanel.addComponent(new Label("X-Factors: " + player.getXFactors().size()));
+        if (player.xFactorCount() > 0) {
+            actionPanel.addComponent(new Label("X-Factors: " + player.xFactorCount()));
         }
         if (player.getContract() != null) {
             Contract c = player.getContract();
@@ -117,13 +118,13 @@ public class PlayerEditor extends Panel {
         if (isAHL) {
             actionPanel.addComponent(new Button("Call Up to NHL", () -> {
                 tracker.callUpPlayerFromAHL(player);
-                refreshRosterView(tracker, screen, window, logger, parentPanel);
+                refreshRosterView(tracker);
                 window.setComponent(this);
             }));
         } else {
             actionPanel.addComponent(new Button("Send Down to AHL", () -> {
                 tracker.sendPlayerToAHL(player);
-                refreshRosterView(tracker, screen, window, logger, parentPanel);
+                refreshRosterView(tracker);
                 window.setComponent(this);
             }));
         }
@@ -146,7 +147,7 @@ public class PlayerEditor extends Panel {
             } else {
                 tracker.removePlayerFromNHL(player);
             }
-            refreshRosterView(tracker, screen, window, logger, parentPanel);
+            refreshRosterView(tracker);
             window.setComponent(this);
         }));
 
@@ -232,7 +233,6 @@ public class PlayerEditor extends Panel {
             newPlayer.setStyle(styleIdx == 0 ? null : PLAYER_STYLE.values()[styleIdx - 1]);
             
             newPlayer.setCareerStats(new ArrayList<>());
-            newPlayer.setXFactors(new ArrayList<>());
 
             if (teamCombo.getSelectedIndex() == 0) {
                 tracker.addPlayerToNHL(newPlayer);
@@ -240,7 +240,7 @@ public class PlayerEditor extends Panel {
                 tracker.addPlayerToAHL(newPlayer);
             }
 
-            refreshRosterView(tracker, screen, window, logger, parentPanel);
+            refreshRosterView(tracker);
             window.setComponent(this);
         }));
 
@@ -337,8 +337,9 @@ public class PlayerEditor extends Panel {
             
             int selectedStyleIdx = styleCombo.getSelectedIndex();
             player.setStyle(selectedStyleIdx == 0 ? null : PLAYER_STYLE.values()[selectedStyleIdx - 1]);
+            tracker.refreshPlayer(player);
 
-            refreshRosterView(tracker, screen, window, logger, parentPanel);
+            refreshRosterView(tracker);
             window.setComponent(this);
         }));
 
@@ -388,15 +389,15 @@ public class PlayerEditor extends Panel {
             if (existing == null) {
                 contract.setSigningYear(tracker.getCurrentSeason());
             }
-            player.setContract(contract);
+            tracker.updateContract(player, contract);
 
-            refreshRosterView(tracker, screen, window, logger, parentPanel);
+            refreshRosterView(tracker);
             window.setComponent(this);
         }));
 
         formPanel.addComponent(new Button("Remove Contract", () -> {
-            player.setContract(null);
-            refreshRosterView(tracker, screen, window, logger, parentPanel);
+            tracker.updateContract(player, null);
+            refreshRosterView(tracker);
             window.setComponent(this);
         }));
 
@@ -407,6 +408,66 @@ public class PlayerEditor extends Panel {
         window.setComponent(formPanel);
     }
 
+    private void showXFactorSearch(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
+        Panel formPanel = new Panel();
+        formPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
+        formPanel.addComponent(new Label("=== Find by X-Factors ==="));
+        formPanel.addComponent(new Label("Players must have every checked X-Factor"));
+        formPanel.addComponent(new EmptySpace());
+
+        List<CheckBox> xfactorCheckboxes = new ArrayList<>();
+        for (PLAYER_XFACTORS xf : PLAYER_XFACTORS.values()) {
+            CheckBox cb = new CheckBox(xf.name());
+            xfactorCheckboxes.add(cb);
+            formPanel.addComponent(cb);
+        }
+
+        formPanel.addComponent(new EmptySpace());
+        formPanel.addComponent(new Button("Search", () -> {
+            long required = 0;
+            PLAYER_XFACTORS[] values = PLAYER_XFACTORS.values();
+            for (int i = 0; i < xfactorCheckboxes.size(); i++) {
+                if (xfactorCheckboxes.get(i).isChecked()) {
+                    required |= values[i].bit();
+                }
+            }
+            showXFactorResults(required, tracker, screen, window, logger, parentPanel);
+        }));
+
+        formPanel.addComponent(new Button("Cancel", () -> {
+            window.setComponent(this);
+        }));
+
+        window.setComponent(formPanel);
+    }
+
+    private void showXFactorResults(long required, FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
+        Panel resultPanel = new Panel();
+        resultPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
+        String title = required == 0 ? "All Rostered Players"
+            : "Players with " + PLAYER_XFACTORS.fromMask(required).stream().map(Enum::name).collect(Collectors.joining(" + "));
+        resultPanel.addComponent(new Label("=== " + title + " ==="));
+        resultPanel.addComponent(new EmptySpace());
+
+        List<Player> matches = tracker.getPlayersWithXFactors(required);
+        if (matches.isEmpty()) {
+            resultPanel.addComponent(new Label("  (No rostered players match)"));
+        }
+        for (Player player : matches) {
+            boolean isAHL = tracker.getTeamOf(player) == tracker.getSelectedAHLTeam();
+            resultPanel.addComponent(new Button(formatPlayerRow(player) + (isAHL ? " (AHL)" : ""), () -> {
+                showPlayerActions(player, tracker, screen, window, logger, parentPanel, isAHL);
+            }));
+        }
+
+        resultPanel.addComponent(new EmptySpace());
+        resultPanel.addComponent(new Button("Back", () -> {
+            window.setComponent(this);
+        }));
+
+        window.setComponent(resultPanel);
+    }
+
     private void showXFactorEditor(Player player, FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel formPanel = new Panel();
         formPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -414,29 +475,28 @@ public class PlayerEditor extends Panel {
         formPanel.addComponent(new Label("Player: " + player.getFullName()));
         formPanel.addComponent(new EmptySpace());
 
-        List<PLAYER_XFACTORS> currentXFactors = player.getXFactors() != null ? new ArrayList<>(player.getXFactors()) : new ArrayList<>();
-
         // Create checkboxes for each X-Factor
         List<CheckBox> xfactorCheckboxes = new ArrayList<>();
         for (PLAYER_XFACTORS xf : PLAYER_XFACTORS.values()) {
             CheckBox cb = new CheckBox(xf.name());
-            cb.setChecked(currentXFactors.contains(xf));
+            cb.setChecked(player.hasXFactor(xf));
             xfactorCheckboxes.add(cb);
             formPanel.addComponent(cb);
         }
 
         formPanel.addComponent(new EmptySpace());
         formPanel.addComponent(new Button("Save X-Factors", () -> {
-            List<PLAYER_XFACTORS> selected = new ArrayList<>();
+            long selected = 0;
             PLAYER_XFACTORS[] values = PLAYER_XFACTORS.values();
             for (int i = 0; i < xfactorCheckboxes.size(); i++) {
                 if (xfactorCheckboxes.get(i).isChecked()) {
-                    selected.add(values[i]);
+                    selected |= values[i].bit();
                 }
             }
-            player.setXFactors(selected);
+            player.setXfactorMask(selected);
+            tracker.requestAutosave();
 
-            refreshRosterView(tracker, screen, window, logger, parentPanel);
+            refreshRosterView(tracker);
             window.setComponent(this);
         }));
 
@@ -6,6 +6,7 @@ import java.util.List;
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.PagedListView;
 import com.github.loafabreadly.franchisetracker.model.*;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.screen.Screen;
@@ -14,6 +15,11 @@ import com.googlecode.lanterna.screen.Screen;
  * ProspectTracker provides a dashboard for viewing and comparing AHL prospects.
  */
 public class ProspectTracker extends Panel {
+    private static final int PAGE_SIZE = 15;
+    private static final List<PagedListView.SortOption<Player>> SORTS = List.of(
+        new PagedListView.SortOption<>("Overall", Comparator.comparingInt(Player::getOverall).reversed()),
+        new PagedListView.SortOption<>("Last name", Comparator.comparing(Player::getLastName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))),
+        new PagedListView.SortOption<>("Age", Comparator.comparingInt(Player::getAge)));
 
     private Player selectedForComparison = null;
 
@@ -50,29 +56,20 @@ public class ProspectTracker extends Panel {
         if (prospects.isEmpty()) {
             addComponent(new Label("No prospects in the system."));
         } else {
+            PagedListView<Player> prospectList = new PagedListView<>(PAGE_SIZE, ProspectTracker::formatProspectRow,
+                prospect -> {
+                    if (selectedForComparison != null && selectedForComparison != prospect) {
+                        showComparison(selectedForComparison, prospect, tracker, screen, window, logger, parentPanel);
+                    } else {
+                        showProspectDetails(prospect, tracker, screen, window, logger, parentPanel);
+                    }
+                },
+                "  (No prospects match)");
+            addComponent(PagedListView.createControls(SORTS, tracker::searchPlayers, Player::getId, prospectList));
             addComponent(new Label(String.format("%-20s %-5s %-3s %-4s %-12s", "Name", "Pos", "OVR", "Age", "Potential")));
             addComponent(new Label("─".repeat(50)));
-            
-            prospects.stream()
-                .sorted(Comparator.comparingInt(Player::getOverall).reversed())
-                .forEach(prospect -> {
-                    String potStr = prospect.getPotential() != null 
-                        ? prospect.getPotential().getDisplayName() : "Unknown";
-                    String info = String.format("%-20s %-5s %-3d %-4d %-12s",
-                        prospect.getFullName().substring(0, Math.min(20, prospect.getFullName().length())),
-                        prospect.getPosition() != null ? prospect.getPosition().name().substring(0, Math.min(5, prospect.getPosition().name().length())) : "N/A",
-                        prospect.getOverall(),
-                        prospect.getAge(),
-                        potStr.substring(0, Math.min(12, potStr.length())));
-                    
-                    addComponent(new Button(info, () -> {
-                        if (selectedForComparison != null && selectedForComparison != prospect) {
-                            showComparison(selectedForComparison, prospect, tracker, screen, window, logger, parentPanel);
-                        } else {
-                            showProspectDetails(prospect, tracker, screen, window, logger, parentPanel);
-                        }
-                    }));
-                });
+            addComponent(prospectList);
+            prospectList.setItems(prospects);
         }
 
         addComponent(new EmptySpace());
@@ -84,6 +81,17 @@ public class ProspectTracker extends Panel {
         }));
     }
 
+    private static String formatProspectRow(Player prospect) {
+        String potStr = prospect.getPotential() != null
+            ? prospect.getPotential().getDisplayName() : "Unknown";
+        return String.format("%-20s %-5s %-3d %-4d %-12s",
+            prospect.getFullName().substring(0, Math.min(20, prospect.getFullName().length())),
+            prospect.getPosition() != null ? prospect.getPosition().name().substring(0, Math.min(5, prospect.getPosition().name().length())) : "N/A",
+            prospect.getOverall(),
+            prospect.getAge(),
+            potStr.substring(0, Math.min(12, potStr.length())));
+    }
+
     private void showProspectDetails(Player prospect, FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel detailPanel = new Panel();
         detailPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -115,9 +123,9 @@ public class ProspectTracker extends Panel {
         }
 
         // X-Factors
-        if (prospect.getXFactors() != null && !prospect.getXFactors().isEmpty()) {
+        if (prospect.xFactorCount() > 0) {
             detailPanel.addComponent(new Label("--- X-Factors ---"));
-            for (PLAYER_XFACTORS xf : prospect.getXFactors()) {
+            for (PLAYER_XFACTORS xf : prospect.xFactors()) {
                 detailPanel.addComponent(new Label("  • " + xf.name()));
             }
             detailPanel.addComponent(new EmptySpace());
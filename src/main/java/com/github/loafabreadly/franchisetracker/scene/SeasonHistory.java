@@ -6,7 +6,10 @@ import java.util.List;
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.PagedListView;
+import com.github.loafabreadly.franchisetracker.index.PlayerTimeline;
 import com.github.loafabreadly.franchisetracker.model.*;
+import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.screen.Screen;
 
@@ -14,6 +17,7 @@ import com.googlecode.lanterna.screen.Screen;
  * SeasonHistory provides a browser for viewing archived season snapshots.
  */
 public class SeasonHistory extends Panel {
+    private static final int PAGE_SIZE = 15;
 
     /**
      * Creates the season history browser panel.
@@ -54,6 +58,11 @@ public class SeasonHistory extends Panel {
                         showSeasonDetails(snapshot, tracker, screen, window, logger, parentPanel);
                     }));
                 });
+
+            addComponent(new EmptySpace());
+            addComponent(new Button("Search Past Players", () -> {
+                showPlayerSearch(tracker, window);
+            }));
         }
 
         addComponent(new EmptySpace());
@@ -69,28 +78,20 @@ public class SeasonHistory extends Panel {
         detailPanel.addComponent(new EmptySpace());
 
         // Navigation
-        List<SeasonSnapshot> history = tracker.getSeasonHistory();
-        int currentIndex = -1;
-        for (int i = 0; i < history.size(); i++) {
-            if (history.get(i).getSeason() == snapshot.getSeason()) {
-                currentIndex = i;
-                break;
-            }
-        }
-        final int prevIndex = currentIndex > 0 ? currentIndex - 1 : -1;
-        final int nextIndex = currentIndex < history.size() - 1 ? currentIndex + 1 : -1;
+        SeasonSnapshot previous = tracker.getSeasonAsOf(snapshot.getSeason() - 1);
+        SeasonSnapshot next = tracker.getSeasonAfter(snapshot.getSeason());
 
         Panel navPanel = new Panel();
         navPanel.setLayoutManager(new LinearLayout(Direction.HORIZONTAL));
-        if (prevIndex >= 0) {
-            navPanel.addComponent(new Button("◀ " + history.get(prevIndex).getSeason(), () -> {
-                showSeasonDetails(history.get(prevIndex), tracker, screen, window, logger, parentPanel);
+        if (previous != null) {
+            navPanel.addComponent(new Button("◀ " + previous.getSeason(), () -> {
+                showSeasonDetails(previous, tracker, screen, window, logger, parentPanel);
             }));
         }
         navPanel.addComponent(new Label("  Season " + snapshot.getSeason() + "  "));
-        if (nextIndex >= 0) {
-            navPanel.addComponent(new Button(history.get(nextIndex).getSeason() + " ▶", () -> {
-                showSeasonDetails(history.get(nextIndex), tracker, screen, window, logger, parentPanel);
+        if (next != null) {
+            navPanel.addComponent(new Button(next.getSeason() + " ▶", () -> {
+                showSeasonDetails(next, tracker, screen, window, logger, parentPanel);
             }));
         }
         detailPanel.addComponent(navPanel);
@@ -157,13 +158,17 @@ public class SeasonHistory extends Panel {
                 .sorted(Comparator.comparingInt(PlayerSnapshot::getOverall).reversed())
                 .forEach(p -> {
                     String capStr = p.getAav() > 0 ? String.format("$%.2fM", p.getAav()) : "N/A";
-                    rosterPanel.addComponent(new Label(String.format("%-20s %-5s %-3d %-4d %-8s",
+                    rosterPanel.addComponent(new Button(String.format("%-20s %-5s %-3d %-4d %-8s",
                         p.getFullName().substring(0, Math.min(20, p.getFullName().length())),
                         p.getPosition() != null ? p.getPosition().name().substring(0, Math.min(5, p.getPosition().name().length())) : "N/A",
                         p.getOverall(),
                         p.getAge(),
-                        capStr)));
+                        capStr), () -> {
+                        showPlayerCareer(p, rosterPanel, tracker, window);
+                    }));
                 });
+            rosterPanel.addComponent(new EmptySpace());
+            rosterPanel.addComponent(new Label("Select a player to view their franchise career."));
         }
 
         rosterPanel.addComponent(new EmptySpace());
@@ -174,6 +179,69 @@ public class SeasonHistory extends Panel {
         window.setComponent(rosterPanel);
     }
 
+    private void showPlayerSearch(FranchiseTracker tracker, BasicWindow window) {
+        Panel searchPanel = new Panel();
+        searchPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
+        searchPanel.addComponent(new Label("=== Search Past Players ==="));
+        searchPanel.addComponent(new EmptySpace());
+
+        PagedListView<PlayerTimeline.Appearance> results = new PagedListView<>(PAGE_SIZE,
+            appearance -> String.format("%-20s %-5s last season %d",
+                appearance.getPlayer().getFullName().substring(0, Math.min(20, appearance.getPlayer().getFullName().length())),
+                appearance.getPlayer().getPosition() != null ? appearance.getPlayer().getPosition().name().substring(0, Math.min(5, appearance.getPlayer().getPosition().name().length())) : "N/A",
+                appearance.getSeason()),
+            appearance -> showPlayerCareer(appearance.getPlayer(), searchPanel, tracker, window),
+            "  (No matching players)");
+        // Each keystroke is one lookup in the archived name index
+        TextBox nameBox = new TextBox(new TerminalSize(20, 1));
+        nameBox.setTextChangeListener((text, byUser) -> results.setItems(tracker.searchArchivedPlayers(text)));
+        Panel searchRow = new Panel(new LinearLayout(Direction.HORIZONTAL));
+        searchRow.addComponent(new Label("Name:"));
+        searchRow.addComponent(nameBox);
+        searchPanel.addComponent(searchRow);
+        searchPanel.addComponent(results);
+
+        searchPanel.addComponent(new EmptySpace());
+        searchPanel.addComponent(new Button("Back", () -> {
+            window.setComponent(this);
+        }));
+
+        window.setComponent(searchPanel);
+    }
+
+    private void showPlayerCareer(PlayerSnapshot player, Panel returnPanel, FranchiseTracker tracker, BasicWindow window) {
+        Panel careerPanel = new Panel();
+        careerPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
+        careerPanel.addComponent(new Label("=== " + player.getFullName() + " - Franchise Career ==="));
+        careerPanel.addComponent(new EmptySpace());
+
+        careerPanel.addComponent(new Label(String.format("%-6s %-4s %-3s %-4s %-4s %-4s %-4s %-4s %-8s",
+            "Season", "Lg", "OVR", "Age", "GP", "G", "A", "P", "Cap Hit")));
+        careerPanel.addComponent(new Label("─".repeat(50)));
+        for (PlayerTimeline.Appearance appearance : tracker.getPlayerTimeline(player)) {
+            PlayerSnapshot p = appearance.getPlayer();
+            PlayerSeasonStats stats = p.getSeasonStats();
+            String capStr = p.getAav() > 0 ? String.format("$%.2fM", p.getAav()) : "N/A";
+            careerPanel.addComponent(new Label(String.format("%-6d %-4s %-3d %-4d %-4s %-4s %-4s %-4s %-8s",
+                appearance.getSeason(),
+                appearance.isAhl() ? "AHL" : "NHL",
+                p.getOverall(),
+                p.getAge(),
+                stats != null ? String.valueOf(stats.getGamesPlayed()) : "-",
+                stats != null ? String.valueOf(stats.getGoals()) : "-",
+                stats != null ? String.valueOf(stats.getAssists()) : "-",
+                stats != null ? String.valueOf(stats.getPoints()) : "-",
+                capStr)));
+        }
+
+        careerPanel.addComponent(new EmptySpace());
+        careerPanel.addComponent(new Button("Back", () -> {
+            window.setComponent(returnPanel);
+        }));
+
+        window.setComponent(careerPanel);
+    }
+
     private void showAwardsSnapshot(SeasonSnapshot snapshot, FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel awardsPanel = new Panel();
         awardsPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
@@ -1,11 +1,14 @@
 package com.github.loafabreadly.franchisetracker.scene;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.PagedListView;
+import com.github.loafabreadly.franchisetracker.index.StatsStore;
 import com.github.loafabreadly.franchisetracker.model.*;
 import com.googlecode.lanterna.TerminalSize;
 import com.googlecode.lanterna.gui2.*;
@@ -15,6 +18,7 @@ import com.googlecode.lanterna.screen.Screen;
  * SeasonStatsEditor provides a TUI for entering end-of-season player and team stats.
  */
 public class SeasonStatsEditor extends Panel {
+    private static final int PAGE_SIZE = 15;
 
     /**
      * Creates the season stats editor panel.
@@ -63,17 +67,19 @@ public class SeasonStatsEditor extends Panel {
         menuPanel.addComponent(new EmptySpace());
         menuPanel.addComponent(new Label("Select a player:"));
 
-        if (tracker.getSelectedNHLTeam().getRoster() != null) {
-            for (Player player : tracker.getSelectedNHLTeam().getRoster()) {
-                menuPanel.addComponent(new Button(player.getFirstName() + " " + player.getLastName() + " (" + player.getPosition() + ")", () -> {
-                    if (player.getPosition() == PLAYER_POS.GOALIE) {
-                        showGoalieStatsForm(player, tracker, screen, window, logger, parentPanel);
-                    } else {
-                        showSkaterStatsForm(player, tracker, screen, window, logger, parentPanel);
-                    }
-                }));
-            }
-        }
+        PagedListView<Player> playerList = new PagedListView<>(PAGE_SIZE,
+            player -> player.getFirstName() + " " + player.getLastName() + " (" + player.getPosition() + ")",
+            player -> {
+                if (player.getPosition() == PLAYER_POS.GOALIE) {
+                    showGoalieStatsForm(player, tracker, screen, window, logger, parentPanel);
+                } else {
+                    showSkaterStatsForm(player, tracker, screen, window, logger, parentPanel);
+                }
+            },
+            "  (No players on roster)");
+        menuPanel.addComponent(PagedListView.createControls(List.of(), tracker::searchPlayers, Player::getId, playerList));
+        menuPanel.addComponent(playerList);
+        playerList.setItems(tracker.getSelectedNHLTeam().getRoster());
 
         menuPanel.addComponent(new EmptySpace());
         menuPanel.addComponent(new Button("Back", () -> {
@@ -118,12 +124,8 @@ public class SeasonStatsEditor extends Panel {
             stats.setPlusMinus(Integer.parseInt(plusMinusBox.getText()));
             stats.setPenaltyMinutes(Integer.parseInt(pimBox.getText()));
 
-            if (player.getCareerStats() == null) {
-                player.setCareerStats(new ArrayList<>());
-            }
-            // Remove existing stats for this season if any
-            player.getCareerStats().removeIf(s -> s.getYear() == tracker.getCurrentSeason());
-            player.getCareerStats().add(stats);
+            // Replaces any stats already recorded for this season
+            tracker.recordPlayerStats(player, stats);
 
             showPlayerStatsMenu(tracker, screen, window, logger, parentPanel);
         }));
@@ -177,12 +179,8 @@ public class SeasonStatsEditor extends Panel {
             stats.setSave_percentage(Integer.parseInt(savePctBox.getText()));
             stats.setGoalsAgainstAverage(Integer.parseInt(gaaBox.getText()));
 
-            if (player.getCareerStats() == null) {
-                player.setCareerStats(new ArrayList<>());
-            }
-            // Remove existing stats for this season if any
-            player.getCareerStats().removeIf(s -> s.getYear() == tracker.getCurrentSeason());
-            player.getCareerStats().add(stats);
+            // Replaces any stats already recorded for this season
+            tracker.recordPlayerStats(player, stats);
 
             showPlayerStatsMenu(tracker, screen, window, logger, parentPanel);
         }));
@@ -239,6 +237,7 @@ public class SeasonStatsEditor extends Panel {
             // Remove existing stats for this season if any
             tracker.getSelectedNHLTeam().getCareerStats().removeIf(s -> s.getYear() == tracker.getCurrentSeason());
             tracker.getSelectedNHLTeam().getCareerStats().add(stats);
+            tracker.requestAutosave();
 
             showMainMenu(tracker, screen, window, logger, parentPanel);
             window.setComponent(this);
@@ -271,6 +270,11 @@ public class SeasonStatsEditor extends Panel {
 
         statsPanel.addComponent(new EmptySpace());
         statsPanel.addComponent(new Label("--- Player Career Stats ---"));
+        StatsStore store = tracker.getStatsStore();
+        int season = tracker.getCurrentSeason();
+        statsPanel.addComponent(new Label(String.format("%d recorded so far: %dG %dA %dP across both rosters", season,
+            store.seasonTotal(StatsStore.Stat.GOALS, season), store.seasonTotal(StatsStore.Stat.ASSISTS, season),
+            store.seasonTotal(StatsStore.Stat.POINTS, season))));
 
         if (tracker.getSelectedNHLTeam().getRoster() != null) {
             for (Player player : tracker.getSelectedNHLTeam().getRoster()) {
@@ -287,6 +291,7 @@ public class SeasonStatsEditor extends Panel {
                                 ps.getPoints(), ps.getPlusMinus(), ps.getPenaltyMinutes())));
                         }
                     }
+                    statsPanel.addComponent(new Label(careerLine(store, player)));
                 }
             }
         }
@@ -299,6 +304,21 @@ public class SeasonStatsEditor extends Panel {
         window.setComponent(statsPanel);
     }
 
+    private static String careerLine(StatsStore store, Player player) {
+        long id = player.getId();
+        if (player.getPosition() == PLAYER_POS.GOALIE) {
+            return String.format("  Career: %dGP %dW-%dL-%dOTL %dSO (%d seasons)",
+                store.careerTotal(id, StatsStore.Stat.GAMES_PLAYED), store.careerTotal(id, StatsStore.Stat.WINS),
+                store.careerTotal(id, StatsStore.Stat.LOSSES), store.careerTotal(id, StatsStore.Stat.OVERTIME_LOSSES),
+                store.careerTotal(id, StatsStore.Stat.SHUTOUTS), store.seasonsRecorded(id));
+        }
+        return String.format("  Career: %dGP %dG %dA %dP %+d %dPIM (%d seasons)",
+            store.careerTotal(id, StatsStore.Stat.GAMES_PLAYED), store.careerTotal(id, StatsStore.Stat.GOALS),
+            store.careerTotal(id, StatsStore.Stat.ASSISTS), store.careerTotal(id, StatsStore.Stat.POINTS),
+            store.careerTotal(id, StatsStore.Stat.PLUS_MINUS), store.careerTotal(id, StatsStore.Stat.PENALTY_MINUTES),
+            store.seasonsRecorded(id));
+    }
+
     private void showAdvanceSeasonConfirm(FranchiseTracker tracker, Screen screen, BasicWindow window, Logger logger, Panel parentPanel) {
         Panel confirmPanel = new Panel();
         confirmPanel.setLayoutManager(new LinearLayout(Direction.VERTICAL));
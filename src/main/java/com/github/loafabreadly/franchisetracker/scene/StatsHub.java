@@ -1,14 +1,14 @@
 package com.github.loafabreadly.franchisetracker.scene;
 
-import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.Logger;
 
 import com.github.loafabreadly.franchisetracker.ChartComponents;
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.index.CapLedger;
+import com.github.loafabreadly.franchisetracker.index.StatsStore;
 import com.github.loafabreadly.franchisetracker.model.*;
 import com.googlecode.lanterna.gui2.*;
 import com.googlecode.lanterna.screen.Screen;
@@ -99,20 +99,14 @@ public class StatsHub extends Panel {
             .sorted(Comparator.comparingInt(PlayerSeasonStats::getYear))
             .toList();
 
-        // Extract overall progression if available
-        List<Integer> overalls = new ArrayList<>();
-        List<Integer> points = new ArrayList<>();
-        
-        for (PlayerSeasonStats s : stats) {
-            if (s.getOverallAtEndOfSeason() > 0) {
-                overalls.add(s.getOverallAtEndOfSeason());
-            }
-            points.add(s.getPoints());
+        int[] points = new int[stats.size()];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = stats.get(i).getPoints();
         }
 
         // Points sparkline
         chartPanel.addComponent(new Label("Points by Season:"));
-        String pointSparkline = ChartComponents.createSparkline(points);
+        String pointSparkline = ChartComponents.cachedSparkline(points);
         chartPanel.addComponent(new Label("  " + pointSparkline));
         chartPanel.addComponent(new EmptySpace());
 
@@ -143,19 +137,22 @@ public class StatsHub extends Panel {
             chartPanel.addComponent(new Label("No season history available."));
             chartPanel.addComponent(new Label("Complete seasons to see data here."));
         } else {
-            List<Integer> points = history.stream()
+            List<SeasonSnapshot> seasons = history.stream()
                 .sorted(Comparator.comparingInt(SeasonSnapshot::getSeason))
-                .map(SeasonSnapshot::getPoints)
-                .collect(Collectors.toList());
+                .toList();
+            int[] points = new int[seasons.size()];
+            for (int i = 0; i < points.length; i++) {
+                points[i] = seasons.get(i).getPoints();
+            }
 
-            // Sparkline
-            chartPanel.addComponent(new Label("Points Trend: " + ChartComponents.createSparkline(points)));
+            // Sparkline, reused across visits until another season is archived
+            chartPanel.addComponent(new Label("Points Trend: " + ChartComponents.cachedSparkline(points)));
             chartPanel.addComponent(new EmptySpace());
 
             // Detailed table
             chartPanel.addComponent(new Label("Season | Pts | W  | L  | OTL | Cup?"));
             chartPanel.addComponent(new Label("─".repeat(40)));
-            for (SeasonSnapshot s : history.stream().sorted(Comparator.comparingInt(SeasonSnapshot::getSeason)).toList()) {
+            for (SeasonSnapshot s : seasons) {
                 TeamSeasonStats ts = s.getTeamStats();
                 String cupIcon = s.wonStanleyCup() ? " 🏆" : "";
                 if (ts != null) {
@@ -186,7 +183,7 @@ public class StatsHub extends Panel {
             chartPanel.addComponent(new Label("No players on NHL roster."));
         } else {
             int[] ages = nhlRoster.stream().mapToInt(Player::getAge).toArray();
-            String histogram = ChartComponents.createAgeHistogram(ages, 3);
+            String histogram = ChartComponents.cachedAgeHistogram(ages, 3);
             
             chartPanel.addComponent(new Label("Age Range Distribution:"));
             for (String line : histogram.split("\n")) {
@@ -226,15 +223,13 @@ public class StatsHub extends Panel {
 
         // Projected cap by year (based on expiring contracts)
         chartPanel.addComponent(new Label("--- Projected Cap Relief by Year ---"));
-        double currentCap = tracker.getTotalCapHit();
+        CapLedger ledger = tracker.getCapLedger();
+        double[] projected = ledger.projectCapHit(tracker.getCurrentSeason(), 4);
         
-        for (int year = tracker.getCurrentSeason(); year <= tracker.getCurrentSeason() + 3; year++) {
-            List<Player> expiring = tracker.getExpiringContracts(year);
-            double relief = expiring.stream().mapToDouble(Player::getCapHit).sum();
-            currentCap -= relief;
-            
+        for (int i = 0; i < projected.length; i++) {
+            int year = tracker.getCurrentSeason() + i;
             chartPanel.addComponent(new Label(String.format("%d: $%.1fM expiring (%d players) | Projected: $%.1fM",
-                year, relief, expiring.size(), Math.max(0, currentCap))));
+                year, ledger.getExpiringCapHit(year), ledger.getExpiringIds(year).size(), projected[i])));
         }
 
         chartPanel.addComponent(new EmptySpace());
@@ -252,33 +247,23 @@ public class StatsHub extends Panel {
         selectPanel.addComponent(new Label("Select players to compare their career stats"));
         selectPanel.addComponent(new EmptySpace());
 
-        // Show top scorers from current season
-        List<Player> playersWithStats = tracker.getAllPlayers().stream()
-            .filter(p -> p.getCareerStats() != null && !p.getCareerStats().isEmpty())
-            .sorted((a, b) -> {
-                int aPoints = a.getCareerStats().stream().mapToInt(PlayerSeasonStats::getPoints).sum();
-                int bPoints = b.getCareerStats().stream().mapToInt(PlayerSeasonStats::getPoints).sum();
-                return Integer.compare(bPoints, aPoints);
-            })
-            .limit(15)
-            .toList();
+        // Career points leaders among rostered players, ranked from the stats store's columns
+        StatsStore store = tracker.getStatsStore();
+        long[] leaders = store.topK(StatsStore.Stat.POINTS, 15);
 
-        if (playersWithStats.isEmpty()) {
+        if (leaders.length == 0) {
             selectPanel.addComponent(new Label("No players have recorded stats yet."));
         } else {
             selectPanel.addComponent(new Label("Career Leaders:"));
             selectPanel.addComponent(new Label(String.format("%-20s | GP  |  G  |  A  | Pts", "Player")));
             selectPanel.addComponent(new Label("─".repeat(50)));
             
-            for (Player p : playersWithStats) {
-                int totalGP = p.getCareerStats().stream().mapToInt(PlayerSeasonStats::getGamesPlayed).sum();
-                int totalG = p.getCareerStats().stream().mapToInt(PlayerSeasonStats::getGoals).sum();
-                int totalA = p.getCareerStats().stream().mapToInt(PlayerSeasonStats::getAssists).sum();
-                int totalP = p.getCareerStats().stream().mapToInt(PlayerSeasonStats::getPoints).sum();
-                
+            for (long id : leaders) {
+                Player p = tracker.getPlayer(id);
                 selectPanel.addComponent(new Label(String.format("%-20s | %3d | %3d | %3d | %3d",
                     p.getFullName().substring(0, Math.min(20, p.getFullName().length())),
-                    totalGP, totalG, totalA, totalP)));
+                    store.careerTotal(id, StatsStore.Stat.GAMES_PLAYED), store.careerTotal(id, StatsStore.Stat.GOALS),
+                    store.careerTotal(id, StatsStore.Stat.ASSISTS), store.careerTotal(id, StatsStore.Stat.POINTS))));
             }
         }
 
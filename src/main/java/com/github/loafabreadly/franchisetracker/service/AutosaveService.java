@@ -0,0 +1,288 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.model.JournalEntry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * AutosaveService writes a franchise to its save file in the background.
+ * <p>
+ * Edits only mark the tracker dirty. After a short quiet period the tracker's state is captured on the
+ * thread that owns it (the Lanterna GUI thread) and handed to a single background writer, so a burst of
+ * edits collapses into one capture and one write, and the UI never waits on disk I/O. Every write goes
+ * through {@link FranchiseDataService#writeCaptured}, which replaces the save file atomically.
+ * <p>
+ * Edits the tracker can describe on its own, such as roster moves, trades and awards, are recorded instead:
+ * the background writer appends each one to the save's {@link FranchiseJournal} and forces it to disk.
+ * Once the journal grows past a threshold, or the service closes, a full save is written as a new
+ * checkpoint and the journal starts over.
+ */
+public class AutosaveService implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(AutosaveService.class);
+    private static final long DEFAULT_DELAY_MILLIS = 1500;
+    private static final long COMPACT_JOURNAL_BYTES = 256 * 1024;
+
+    private final FranchiseTracker tracker;
+    private final Executor ownerExecutor;
+    private final long delayMillis;
+    private final ScheduledExecutorService writer;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean journaled = new AtomicBoolean();
+    // Owned by the writer thread: the checkpoint last known to be in the save file, and its open journal
+    private long savedCheckpointId;
+    private FranchiseJournal journal;
+
+    /**
+     * Creates an autosave service with the default quiet period.
+     * @param tracker The tracker to save
+     * @param ownerExecutor Runs tasks on the thread that owns the tracker, e.g. the GUI thread's invokeLater
+     */
+    public AutosaveService(FranchiseTracker tracker, Executor ownerExecutor) {
+        this(tracker, ownerExecutor, DEFAULT_DELAY_MILLIS);
+    }
+
+    /**
+     * Creates an autosave service.
+     * @param tracker The tracker to save
+     * @param ownerExecutor Runs tasks on the thread that owns the tracker, e.g. the GUI thread's invokeLater
+     * @param delayMillis Quiet period after the last edit before a save is written
+     */
+    public AutosaveService(FranchiseTracker tracker, Executor ownerExecutor, long delayMillis) {
+        this.tracker = tracker;
+        this.ownerExecutor = ownerExecutor;
+        this.delayMillis = delayMillis;
+        this.savedCheckpointId = tracker.getCheckpointId();
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "franchise-autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Marks the franchise as changed. A save is written once edits stop arriving for the quiet period.
+     */
+    public void requestSave() {
+        dirty.set(true);
+        if (scheduled.compareAndSet(false, true)) {
+            writer.schedule(this::captureOnOwner, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Records an edit in the save's journal in the background. Falls back to a full save when there is no
+     * checkpoint for the journal to follow yet. Must be called from the thread that owns the tracker.
+     * @param entry The edit, which has already been applied to the tracker
+     */
+    public void record(JournalEntry entry) {
+        String filePath = tracker.getSaveFilePath();
+        long checkpointId = tracker.getCheckpointId();
+        if (filePath == null || checkpointId == 0) {
+            requestSave();
+            return;
+        }
+        byte[] record;
+        try {
+            record = FranchiseJournal.encode(entry);
+        } catch (IOException e) {
+            logger.error("Unable to journal " + entry.getType() + ", saving in full instead", e);
+            requestSave();
+            return;
+        }
+        writer.execute(() -> append(Path.of(filePath), checkpointId, record));
+    }
+
+    /**
+     * Captures the franchise immediately and writes it in the background.
+     * Must be called from the thread that owns the tracker.
+     * @return Completes on the writer thread once the save is on disk, or exceptionally if capturing or
+     *         writing it failed
+     */
+    public CompletableFuture<Void> saveNow() {
+        dirty.set(true);
+        return captureAndQueue();
+    }
+
+    /**
+     * Captures any unsaved edits and blocks until every queued write has reached the disk.
+     * Must be called from the thread that owns the tracker; intended for shutdown.
+     */
+    public void flush() {
+        captureAndQueue();
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Autosave flush failed", e);
+        }
+    }
+
+    /**
+     * Writes any unsaved edits, folds the journal into a final checkpoint so the next load has nothing to
+     * replay, and stops the background writer.
+     */
+    @Override
+    public void close() {
+        flush();
+        if (journaled.get()) {
+            saveNow();
+            flush();
+        }
+        writer.execute(this::closeJournal);
+        writer.shutdown();
+    }
+
+    private void captureOnOwner() {
+        scheduled.set(false);
+        try {
+            ownerExecutor.execute(this::captureAndQueue);
+        } catch (RuntimeException e) {
+            // The GUI thread is gone; nothing safe is left to capture from
+            logger.error("Unable to schedule autosave capture", e);
+        }
+    }
+
+    /**
+     * Captures unsaved edits and queues their write.
+     * @return Completes once the write is done, at once if there was nothing to save
+     */
+    private CompletableFuture<Void> captureAndQueue() {
+        String filePath = tracker.getSaveFilePath();
+        if (filePath == null || !dirty.getAndSet(false)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        FranchiseDataService.CapturedFranchise captured;
+        try {
+            captured = FranchiseDataService.capture(tracker);
+        } catch (IOException e) {
+            logger.error("Autosave capture failed", e);
+            return CompletableFuture.failedFuture(e);
+        }
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        writer.execute(() -> {
+            try {
+                FranchiseDataService.writeCaptured(captured, filePath);
+            } catch (IOException e) {
+                // Keep the edits pending so the next request retries the write
+                dirty.set(true);
+                logger.error("Autosave to " + filePath + " failed", e);
+                written.completeExceptionally(e);
+                return;
+            }
+            startJournal(Path.of(filePath), captured.getCheckpointId());
+            SeasonSegmentStore reopened = FranchiseDataService.openWrittenSegments(captured, filePath);
+            if (reopened != null) {
+                adoptOnOwner(reopened);
+            }
+            written.complete(null);
+        });
+        return written;
+    }
+
+    /**
+     * Runs on the writer thread. Moves the tracker's seasons onto the save just written, so the next capture
+     * copies their bodies instead of encoding them on the owner thread.
+     */
+    private void adoptOnOwner(SeasonSegmentStore reopened) {
+        try {
+            ownerExecutor.execute(() -> {
+                if (tracker.getAutosaveService() != this) {
+                    // The franchise was closed while the save was being written
+                    closeQuietly(reopened);
+                    return;
+                }
+                SeasonSegmentStore previous = FranchiseDataService.adoptSeasonSegments(tracker, reopened);
+                if (previous != null) {
+                    closeAfterQueuedWrites(previous);
+                }
+            });
+        } catch (RuntimeException e) {
+            // The GUI thread is gone, so the seasons stay on the store they have
+            closeQuietly(reopened);
+        }
+    }
+
+    /**
+     * Closes a season store once every write already queued, which may still copy from it, has finished.
+     * @param store The store the tracker no longer uses
+     */
+    void closeAfterQueuedWrites(SeasonSegmentStore store) {
+        try {
+            writer.execute(() -> closeQuietly(store));
+        } catch (RejectedExecutionException e) {
+            closeQuietly(store);
+        }
+    }
+
+    private static void closeQuietly(SeasonSegmentStore store) {
+        try {
+            store.close();
+        } catch (IOException e) {
+            // Nothing is written through a season store, so a failed close loses nothing
+        }
+    }
+
+    /**
+     * Runs on the writer thread. Appends a record if the journal follows the checkpoint the edit was made
+     * after; otherwise that checkpoint never reached the disk, and a full save covers the edit instead.
+     */
+    private void append(Path save, long checkpointId, byte[] record) {
+        if (checkpointId != savedCheckpointId) {
+            requestSave();
+            return;
+        }
+        try {
+            if (journal == null || !journal.belongsTo(save) || journal.getCheckpointId() != checkpointId) {
+                closeJournal();
+                journal = FranchiseJournal.open(save, checkpointId);
+            }
+            journal.append(record);
+            journaled.set(true);
+        } catch (IOException e) {
+            logger.error("Unable to append to the journal of " + save + ", saving in full instead", e);
+            closeJournal();
+            requestSave();
+            return;
+        }
+        if (journal.size() >= COMPACT_JOURNAL_BYTES) {
+            // Fold the journal into a new checkpoint before it makes loading slow
+            requestSave();
+        }
+    }
+
+    /**
+     * Runs on the writer thread after a checkpoint is written, discarding the edits it now contains.
+     */
+    private void startJournal(Path save, long checkpointId) {
+        savedCheckpointId = checkpointId;
+        journaled.set(false);
+        closeJournal();
+        try {
+            journal = FranchiseJournal.create(save, checkpointId);
+        } catch (IOException e) {
+            // The stale journal names the previous checkpoint, so it is ignored on load; the next
+            // append retries creating a fresh one
+            logger.error("Unable to start a new journal for " + save, e);
+        }
+    }
+
+    private void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                // Every record was forced to disk when it was appended
+            }
+            journal = null;
+        }
+    }
+}
@@ -1,34 +1,322 @@
 package com.github.loafabreadly.franchisetracker.service;
 
 import com.github.loafabreadly.franchisetracker.FranchiseTracker;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import java.io.File;
+import com.github.loafabreadly.franchisetracker.model.JournalEntry;
+import com.github.loafabreadly.franchisetracker.model.SaveManifest;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 /**
- * FranchiseDataService provides static methods for saving and loading FranchiseTracker data to and from disk using JSON serialization.
+ * FranchiseDataService provides static methods for saving and loading FranchiseTracker data to and from disk.
+ * Saves are streamed section by section through {@link StreamingFranchiseCodec} rather than bound as one object graph,
+ * and every save is written to a temporary file that atomically replaces the target once it is fully on disk.
+ * A save is either JSON or binary Smile (see {@link SaveFormat}); the format is detected from the file header on load.
+ * Every save is a checkpoint: edits journaled after it (see {@link FranchiseJournal}) are replayed on load.
  */
 public class FranchiseDataService {
-    private static final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+    private static final Logger logger = LogManager.getLogger(FranchiseDataService.class);
 
     /**
-     * Saves the given FranchiseTracker instance to a file as JSON using the .nhl file extension.
+     * Saves the given FranchiseTracker instance to a .nhl file in the tracker's current save format.
      * @param trackerToSave The FranchiseTracker to save
      * @param filePath The file path to save to
      * @throws IOException if writing to the file fails
      */
     public static void saveTeams(FranchiseTracker trackerToSave, String filePath) throws IOException {
-        mapper.writeValue(new File(filePath), trackerToSave);
+        saveTeams(trackerToSave, filePath, trackerToSave.getSaveFormat(), false);
     }
 
     /**
-     * Loads a FranchiseTracker instance from a JSON file using the .nhl file extension.
+     * Saves the given FranchiseTracker instance to a .nhl file in the given format.
+     * @param trackerToSave The FranchiseTracker to save
+     * @param filePath The file path to save to
+     * @param format The format to write
+     * @throws IOException if writing to the file fails
+     */
+    public static void saveTeams(FranchiseTracker trackerToSave, String filePath, SaveFormat format) throws IOException {
+        saveTeams(trackerToSave, filePath, format, false);
+    }
+
+    /**
+     * Saves the given FranchiseTracker instance to a .nhl file in the given format.
+     * @param trackerToSave The FranchiseTracker to save
+     * @param filePath The file path to save to
+     * @param format The format to write
+     * @param indent Whether to pretty-print JSON output for manual inspection; ignored for binary formats
+     * @throws IOException if writing to the file fails
+     */
+    public static void saveTeams(FranchiseTracker trackerToSave, String filePath, SaveFormat format, boolean indent) throws IOException {
+        trackerToSave.setCheckpointId(FranchiseJournal.newCheckpointId());
+        List<SeasonSegment> segments = captureSegments(trackerToSave, format);
+        writeAtomically(Path.of(filePath), out -> {
+            try (JsonGenerator gen = createGenerator(format, out)) {
+                if (indent && format == SaveFormat.JSON) {
+                    gen.useDefaultPrettyPrinter();
+                }
+                StreamingFranchiseCodec.write(trackerToSave, gen, format.mapper(), segments);
+            }
+            SeasonSegment.writeAll(segments, format, out);
+        });
+        SeasonSegmentStore previous = adoptSeasonSegments(trackerToSave,
+            openWrittenSegments(Path.of(filePath), segments, format, stringsOf(trackerToSave)));
+        if (previous == null) {
+            return;
+        }
+        if (trackerToSave.getAutosaveService() != null) {
+            trackerToSave.getAutosaveService().closeAfterQueuedWrites(previous);
+        } else {
+            previous.close();
+        }
+    }
+
+    /**
+     * Loads a FranchiseTracker instance from a .nhl file. The format is detected from the file header,
+     * and compact, indented and binary saves are all accepted. The loaded tracker remembers its format
+     * so later saves keep it. Season rosters in a segmented save stay on disk until they are first used;
+     * call {@link FranchiseTracker#closeSeasonSegments()} once the tracker is no longer needed.
+     * Repeated names and asset strings are shared through a {@link StringPool}, and the heap saved is reported
+     * in {@link FranchiseTracker#getLoadSummary()}. Edits journaled since the save was written are replayed
+     * onto the loaded tracker.
      * @param filePath The file path to load from
      * @return The loaded FranchiseTracker instance
      * @throws IOException if reading from the file fails
      */
     public static FranchiseTracker loadTracker(String filePath) throws IOException {
-        return mapper.readValue(new File(filePath), FranchiseTracker.class);
+        Path path = Path.of(filePath);
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(path), IO_BUFFER_SIZE)) {
+            SaveFormat format = detectFormat(in);
+            try (JsonParser parser = format.mapper().getFactory().createParser(in)) {
+                StringPool strings = new StringPool();
+                FranchiseTracker tracker = StreamingFranchiseCodec.read(parser, path, format, strings);
+                tracker.setSaveFormat(format);
+                String summary = String.format("Loaded %s: %d repeated strings shared %d pooled values, saving about %d KB",
+                    path.getFileName(), strings.getDuplicates(), strings.size(), strings.getBytesSaved() / 1024);
+                List<JournalEntry> journal = FranchiseJournal.read(path, tracker.getCheckpointId());
+                if (!journal.isEmpty()) {
+                    int skipped = tracker.replayJournal(journal);
+                    summary += String.format("; replayed %d journaled edits", journal.size() - skipped);
+                    if (skipped > 0) {
+                        summary += String.format(", skipped %d for players no longer rostered", skipped);
+                    }
+                }
+                tracker.setLoadSummary(summary);
+                return tracker;
+            }
+        }
+    }
+
+    /**
+     * Reads the summary at the start of a save file without loading the franchise.
+     * @param filePath The file path to inspect
+     * @return The manifest, or null for saves written before manifests existed
+     * @throws IOException if reading from the file fails or it is not a save
+     */
+    public static SaveManifest readManifest(String filePath) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(filePath)))) {
+            SaveFormat format = detectFormat(in);
+            try (JsonParser parser = format.mapper().getFactory().createParser(in)) {
+                return StreamingFranchiseCodec.readManifest(parser, format.mapper());
+            }
+        }
+    }
+
+    /**
+     * Detects the format of a save file from its header without reading the rest of it.
+     * @param filePath The file path to inspect
+     * @return The detected format
+     * @throws IOException if reading from the file fails
+     */
+    public static SaveFormat detectFormat(String filePath) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Path.of(filePath)))) {
+            return detectFormat(in);
+        }
+    }
+
+    /**
+     * Converts a save file to another format. The source is read completely before the target is
+     * replaced, so the source and target may be the same file.
+     * @param sourcePath The save file to read
+     * @param targetPath The file to write
+     * @param format The format to write
+     * @throws IOException if reading or writing fails
+     */
+    public static void convert(String sourcePath, String targetPath, SaveFormat format) throws IOException {
+        FranchiseTracker tracker = loadTracker(sourcePath);
+        try {
+            saveTeams(tracker, targetPath, format);
+        } finally {
+            tracker.closeSeasonSegments();
+        }
+    }
+
+    private static SaveFormat detectFormat(InputStream in) throws IOException {
+        byte[] header = new byte[SaveFormat.headerLength()];
+        in.mark(header.length);
+        int length = in.readNBytes(header, 0, header.length);
+        in.reset();
+        return SaveFormat.detect(header, length);
+    }
+
+    /**
+     * Captures an immutable, in-memory copy of the tracker's persistent state without touching the disk.
+     * Must be called from the thread that owns the tracker; the result may then be written from any thread.
+     * The tracker is given a new checkpoint id, which the save carries once written.
+     * @param tracker The tracker to capture
+     * @return The captured state
+     * @throws IOException if the tracker cannot be serialized
+     */
+    public static CapturedFranchise capture(FranchiseTracker tracker) throws IOException {
+        SaveFormat format = tracker.getSaveFormat();
+        long checkpointId = FranchiseJournal.newCheckpointId();
+        tracker.setCheckpointId(checkpointId);
+        TokenBuffer tokens = new TokenBuffer(format.mapper(), false);
+        List<SeasonSegment> segments = captureSegments(tracker, format);
+        StreamingFranchiseCodec.write(tracker, tokens, format.mapper(), segments);
+        tokens.close();
+        return new CapturedFranchise(tokens, segments, format, checkpointId, stringsOf(tracker));
+    }
+
+    /**
+     * Writes previously captured state to a file in the format the tracker had when it was captured,
+     * atomically replacing any existing save.
+     * @param captured The captured state
+     * @param filePath The file path to save to
+     * @throws IOException if writing to the file fails
+     */
+    public static void writeCaptured(CapturedFranchise captured, String filePath) throws IOException {
+        writeAtomically(Path.of(filePath), out -> {
+            try (JsonGenerator gen = createGenerator(captured.format, out)) {
+                captured.tokens.serialize(gen);
+            }
+            SeasonSegment.writeAll(captured.segments, captured.format, out);
+        });
+    }
+
+    /**
+     * Opens the season bodies of a save just written from a capture, so that later saves copy them rather
+     * than encode them again. Safe to call from any thread; hand the result to {@link #adoptSeasonSegments}
+     * on the thread that owns the tracker.
+     * @param captured The state that was written
+     * @param filePath The file it was written to
+     * @return The store, or null if the save holds no seasons or its segments could not be reopened
+     */
+    public static SeasonSegmentStore openWrittenSegments(CapturedFranchise captured, String filePath) {
+        return openWrittenSegments(Path.of(filePath), captured.segments, captured.format, captured.strings);
+    }
+
+    /**
+     * Moves a tracker's archived seasons onto a store over the save just written, releasing the bodies
+     * they hold in memory. Must be called from the thread that owns the tracker.
+     * @param tracker The tracker that was saved
+     * @param store The store from {@link #openWrittenSegments}, or null to keep the current one
+     * @return The store replaced, or null; close it once no write captured before now still copies from it
+     */
+    public static SeasonSegmentStore adoptSeasonSegments(FranchiseTracker tracker, SeasonSegmentStore store) {
+        if (store == null) {
+            return null;
+        }
+        SeasonSegmentStore previous = tracker.getSeasonSegments();
+        store.attach();
+        tracker.setSeasonSegments(store);
+        return previous;
+    }
+
+    private static SeasonSegmentStore openWrittenSegments(Path file, List<SeasonSegment> segments, SaveFormat format, StringPool strings) {
+        try {
+            return SeasonSegment.openWritten(file, segments, format, strings);
+        } catch (IOException e) {
+            // The save itself is complete; the next one encodes these seasons again
+            logger.error("Unable to reopen the season segments of " + file, e);
+            return null;
+        }
+    }
+
+    private static StringPool stringsOf(FranchiseTracker tracker) {
+        return tracker.getSeasonSegments() != null ? tracker.getSeasonSegments().getStrings() : new StringPool();
+    }
+
+    private static List<SeasonSegment> captureSegments(FranchiseTracker tracker, SaveFormat format) throws IOException {
+        return SeasonSegment.capture(tracker.getSeasonHistory(), tracker.getSeasonSegments(), format);
+    }
+
+    private static JsonGenerator createGenerator(SaveFormat format, OutputStream out) throws IOException {
+        JsonGenerator gen = format.mapper().getFactory().createGenerator(out, JsonEncoding.UTF8);
+        // The atomic writer owns the stream and must fsync it before it is closed
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return gen;
+    }
+
+    /**
+     * Writes to a temporary file in the target's directory, forces it to disk, then moves it over the target.
+     * A crash at any point leaves either the previous save or the complete new one, never a partial file.
+     */
+    static void writeAtomically(Path target, SaveWriter writer) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), IO_BUFFER_SIZE);
+                writer.write(out);
+                out.flush();
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @FunctionalInterface
+    interface SaveWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * An immutable token-level copy of a tracker, produced by {@link #capture} and consumed by {@link #writeCaptured}.
+     */
+    public static final class CapturedFranchise {
+        private final TokenBuffer tokens;
+        private final List<SeasonSegment> segments;
+        private final SaveFormat format;
+        private final long checkpointId;
+        private final StringPool strings;
+
+        private CapturedFranchise(TokenBuffer tokens, List<SeasonSegment> segments, SaveFormat format, long checkpointId,
+                                  StringPool strings) {
+            this.tokens = tokens;
+            this.segments = segments;
+            this.format = format;
+            this.checkpointId = checkpointId;
+            this.strings = strings;
+        }
+
+        /**
+         * @return The id the save will carry as a checkpoint once written
+         */
+        long getCheckpointId() {
+            return checkpointId;
+        }
     }
 }
@@ -0,0 +1,251 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.loafabreadly.franchisetracker.model.JournalEntry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * FranchiseJournal is the append-only operation journal kept beside a save, as {@code <save>.journal}.
+ * Each edit made after the save was written is appended as one record and forced to disk, so persisting
+ * an edit costs a few hundred bytes instead of a full save. Loading replays the journal on top of the save.
+ * <p>
+ * The save is the checkpoint the journal follows. Both carry the same checkpoint id, so a journal left
+ * over from an earlier save is never replayed onto a later one; writing a new checkpoint starts a fresh
+ * journal. Every record is a line holding a CRC32 of its JSON and the JSON itself, and the first record
+ * names the checkpoint. A record torn by a crash fails its checksum and ends the journal there.
+ */
+final class FranchiseJournal implements Closeable {
+    static final String SUFFIX = ".journal";
+
+    private static final Logger logger = LogManager.getLogger(FranchiseJournal.class);
+    private static final ObjectMapper mapper = SaveFormat.JSON.mapper();
+    private static final int CRC_DIGITS = 8;
+    // The checksum, the space after it and the closing newline
+    private static final int RECORD_OVERHEAD = CRC_DIGITS + 2;
+
+    private final Path path;
+    private final long checkpointId;
+    private final FileChannel channel;
+    private long size;
+
+    private FranchiseJournal(Path path, long checkpointId, FileChannel channel, long size) {
+        this.path = path;
+        this.checkpointId = checkpointId;
+        this.channel = channel;
+        this.size = size;
+    }
+
+    /**
+     * @return A fresh, non-zero id for a checkpoint about to be written
+     */
+    static long newCheckpointId() {
+        long id;
+        do {
+            id = ThreadLocalRandom.current().nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    /**
+     * @return The journal file that belongs to a save file
+     */
+    static Path pathFor(Path save) {
+        return save.resolveSibling(save.getFileName() + SUFFIX);
+    }
+
+    /**
+     * Reads the edits journaled since a checkpoint. A missing journal, or one that follows a different
+     * checkpoint, holds none. Reading stops quietly at the first torn or unreadable record.
+     * @param save The save file
+     * @param checkpointId The id of the checkpoint loaded from the save
+     * @return The journaled edits, oldest first
+     * @throws IOException if the journal exists but cannot be read
+     */
+    static List<JournalEntry> read(Path save, long checkpointId) throws IOException {
+        Path path = pathFor(save);
+        if (checkpointId == 0 || !Files.isRegularFile(path)) {
+            return List.of();
+        }
+        List<byte[]> records = readRecords(Files.readAllBytes(path));
+        if (records.isEmpty() || headerId(records.get(0)) != checkpointId) {
+            return List.of();
+        }
+        List<JournalEntry> entries = new ArrayList<>(records.size() - 1);
+        for (byte[] record : records.subList(1, records.size())) {
+            try {
+                entries.add(mapper.readValue(record, JournalEntry.class));
+            } catch (IOException e) {
+                logger.warn("Ignoring the rest of " + path + " after an unreadable entry", e);
+                break;
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Opens a save's journal for appending. A journal that follows the checkpoint is continued after its
+     * last intact record; any other journal is replaced by an empty one.
+     * @param save The save file
+     * @param checkpointId The id of the checkpoint currently in the save
+     * @return The open journal
+     * @throws IOException if the journal cannot be read or written
+     */
+    static FranchiseJournal open(Path save, long checkpointId) throws IOException {
+        Path path = pathFor(save);
+        if (Files.isRegularFile(path)) {
+            List<byte[]> records = readRecords(Files.readAllBytes(path));
+            if (!records.isEmpty() && headerId(records.get(0)) == checkpointId) {
+                long length = 0;
+                for (byte[] record : records) {
+                    length += record.length + RECORD_OVERHEAD;
+                }
+                FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+                // Drop a record torn by a crash so new records follow the intact ones
+                channel.truncate(length);
+                channel.position(length);
+                return new FranchiseJournal(path, checkpointId, channel, length);
+            }
+        }
+        return create(save, checkpointId);
+    }
+
+    /**
+     * Replaces a save's journal with an empty one that follows the given checkpoint.
+     * @param save The save file
+     * @param checkpointId The id of the checkpoint just written to the save
+     * @return The open journal
+     * @throws IOException if the journal cannot be written
+     */
+    static FranchiseJournal create(Path save, long checkpointId) throws IOException {
+        Path path = pathFor(save);
+        byte[] header = record(mapper.writeValueAsBytes(mapper.createObjectNode().put("checkpointId", checkpointId)));
+        FranchiseDataService.writeAtomically(path, out -> out.write(header));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.position(header.length);
+        return new FranchiseJournal(path, checkpointId, channel, header.length);
+    }
+
+    /**
+     * Encodes an edit as a journal record. Call on the thread that owns the tracker, since the entry
+     * refers to live players.
+     * @param entry The edit
+     * @return The record, ready for {@link #append}
+     * @throws IOException if the entry cannot be serialized
+     */
+    static byte[] encode(JournalEntry entry) throws IOException {
+        return record(mapper.writeValueAsBytes(entry));
+    }
+
+    /**
+     * Appends an encoded record and forces it to disk.
+     * @param record A record from {@link #encode}
+     * @throws IOException if writing fails
+     */
+    void append(byte[] record) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        size += record.length;
+    }
+
+    /**
+     * @return The id of the checkpoint this journal follows
+     */
+    long getCheckpointId() {
+        return checkpointId;
+    }
+
+    /**
+     * @return The journal's size in bytes, including its header
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * @return Whether this is the journal of the given save
+     */
+    boolean belongsTo(Path save) {
+        return path.equals(pathFor(save));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static byte[] record(byte[] json) {
+        CRC32 crc = new CRC32();
+        crc.update(json);
+        byte[] record = new byte[json.length + RECORD_OVERHEAD];
+        byte[] checksum = String.format("%08x", crc.getValue()).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(checksum, 0, record, 0, CRC_DIGITS);
+        record[CRC_DIGITS] = ' ';
+        System.arraycopy(json, 0, record, CRC_DIGITS + 1, json.length);
+        record[record.length - 1] = '\n';
+        return record;
+    }
+
+    /**
+     * Splits a journal into the JSON of its records, stopping at the first record that is incomplete
+     * or fails its checksum.
+     */
+    private static List<byte[]> readRecords(byte[] data) {
+        List<byte[]> records = new ArrayList<>();
+        int start = 0;
+        while (start < data.length) {
+            int end = start;
+            while (end < data.length && data[end] != '\n') {
+                end++;
+            }
+            if (end == data.length || end - start < CRC_DIGITS + 1 || data[start + CRC_DIGITS] != ' ') {
+                break;
+            }
+            CRC32 crc = new CRC32();
+            crc.update(data, start + CRC_DIGITS + 1, end - start - CRC_DIGITS - 1);
+            if (parseChecksum(data, start) != crc.getValue()) {
+                break;
+            }
+            records.add(Arrays.copyOfRange(data, start + CRC_DIGITS + 1, end));
+            start = end + 1;
+        }
+        return records;
+    }
+
+    private static long parseChecksum(byte[] data, int start) {
+        long value = 0;
+        for (int i = start; i < start + CRC_DIGITS; i++) {
+            int digit = Character.digit(data[i], 16);
+            if (digit < 0) {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
+    private static long headerId(byte[] header) {
+        try {
+            return mapper.readTree(header).path("checkpointId").asLong(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.model.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * RosterCsvImporter imports players from a roster CSV in the layout shown by the CSV template:
+ * League,FirstName,LastName,Position,Overall,Age,Potential,AAV,ContractYears,Status
+ * <p>
+ * The file is streamed one record at a time. Every row is validated first, and the valid rows are then
+ * added to the rosters in a single batch. Rows that fail validation are skipped and reported with their
+ * line number instead of aborting the whole import.
+ */
+public class RosterCsvImporter {
+    private static final int MIN_COLUMNS = 6;
+
+    private static final Map<String, PLAYER_POS> POSITIONS = lookup(PLAYER_POS.values());
+    private static final Map<String, PLAYER_POTENTIAL> POTENTIALS = lookup(PLAYER_POTENTIAL.values());
+    private static final Map<String, CONTRACT_STATUS> STATUSES = lookup(CONTRACT_STATUS.values());
+
+    private RosterCsvImporter() {
+    }
+
+    /**
+     * Imports a roster CSV into the tracker's NHL and AHL rosters. The first record is treated as the header.
+     * @param tracker The tracker to import into
+     * @param fileName The CSV file to read
+     * @return The number of players imported and any rows that were rejected
+     * @throws IOException if the file cannot be read or is not valid CSV
+     */
+    public static ImportReport importRoster(FranchiseTracker tracker, String fileName) throws IOException {
+        List<Player> nhlPlayers = new ArrayList<>();
+        List<Player> ahlPlayers = new ArrayList<>();
+        List<RowError> errors = new ArrayList<>();
+
+        try (CsvReader reader = new CsvReader(new InputStreamReader(Files.newInputStream(Path.of(fileName)), StandardCharsets.UTF_8))) {
+            List<String> row = reader.readRecord(); // header
+            while ((row = reader.readRecord()) != null) {
+                if (isBlank(row)) {
+                    continue;
+                }
+                try {
+                    Player player = parseRow(row);
+                    if ("AHL".equalsIgnoreCase(row.get(0).trim())) {
+                        ahlPlayers.add(player);
+                    } else {
+                        nhlPlayers.add(player);
+                    }
+                } catch (InvalidRowException e) {
+                    errors.add(new RowError(reader.getRecordLine(), e.getMessage()));
+                }
+            }
+        }
+
+        tracker.addPlayers(nhlPlayers, ahlPlayers);
+        return new ImportReport(nhlPlayers.size() + ahlPlayers.size(), Collections.unmodifiableList(errors));
+    }
+
+    private static Player parseRow(List<String> row) throws InvalidRowException {
+        if (row.size() < MIN_COLUMNS) {
+            throw new InvalidRowException("expected at least " + MIN_COLUMNS + " columns, found " + row.size());
+        }
+
+        Player player = new Player();
+        player.setFirstName(row.get(1).trim());
+        player.setLastName(row.get(2).trim());
+        player.setPosition(parseEnum(row, 3, POSITIONS, "position"));
+        player.setOverall(parseInt(row, 4, "overall"));
+        player.setAge(parseInt(row, 5, "age"));
+        if (row.size() > 6) {
+            player.setPotential(parseEnum(row, 6, POTENTIALS, "potential"));
+        }
+
+        if (row.size() > 8) {
+            double aav = parseDouble(row, 7, "AAV");
+            int years = parseInt(row, 8, "contract years");
+            if (aav > 0 || years > 0) {
+                Contract contract = new Contract();
+                contract.setAav(aav);
+                contract.setTermInYears(years);
+                if (row.size() > 9) {
+                    contract.setStatus(parseEnum(row, 9, STATUSES, "status"));
+                }
+                player.setContract(contract);
+            }
+        }
+
+        player.setCareerStats(new ArrayList<>());
+        return player;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(List<String> row, int column, Map<String, E> values, String name) throws InvalidRowException {
+        String text = row.get(column).trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+        E value = values.get(text.toUpperCase(Locale.ROOT));
+        if (value == null) {
+            throw new InvalidRowException("unknown " + name + " '" + text + "'");
+        }
+        return value;
+    }
+
+    private static int parseInt(List<String> row, int column, String name) throws InvalidRowException {
+        String text = row.get(column).trim();
+        try {
+            return Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new InvalidRowException(name + " '" + text + "' is not a whole number");
+        }
+    }
+
+    private static double parseDouble(List<String> row, int column, String name) throws InvalidRowException {
+        String text = row.get(column).trim();
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new InvalidRowException(name + " '" + text + "' is not a number");
+        }
+    }
+
+    private static boolean isBlank(List<String> row) {
+        for (String field : row) {
+            if (!field.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <E extends Enum<E>> Map<String, E> lookup(E[] values) {
+        Map<String, E> map = new HashMap<>();
+        for (E value : values) {
+            map.put(value.name(), value);
+        }
+        return map;
+    }
+
+    /**
+     * The outcome of an import.
+     */
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class ImportReport {
+        // The number of players added to the rosters
+        int imported;
+        // The rows that were skipped, in file order
+        List<RowError> errors;
+    }
+
+    /**
+     * A row that was skipped, with the reason.
+     */
+    @Value
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RowError {
+        // The line on which the rejected record starts
+        int line;
+        // Why the row was rejected
+        String message;
+
+        @Override
+        public String toString() {
+            return "Line " + line + ": " + message;
+        }
+    }
+
+    private static final class InvalidRowException extends Exception {
+        private InvalidRowException(String message) {
+            super(message);
+        }
+    }
+}
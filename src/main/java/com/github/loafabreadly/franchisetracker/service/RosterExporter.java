@@ -0,0 +1,175 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.model.Player;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RosterExporter writes the NHL and AHL rosters to CSV or JSON.
+ * Both exporters stream player by player into a buffered file writer, so memory use does not grow with
+ * the size of the export. The output matches the roster CSV template and the JSON roster layout read
+ * back by the importers.
+ */
+public class RosterExporter {
+    public static final String CSV_HEADER = "League,FirstName,LastName,Position,Overall,Age,Potential,AAV,ContractYears,Status\n";
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private static final ObjectMapper mapper = new ObjectMapper()
+        .enable(SerializationFeature.INDENT_OUTPUT)
+        .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private RosterExporter() {
+    }
+
+    /**
+     * Exports both rosters to a CSV file, NHL players first.
+     * @param tracker The tracker whose rosters to export
+     * @param fileName The file to write
+     * @throws IOException if writing fails
+     */
+    public static void exportCsv(FranchiseTracker tracker, String fileName) throws IOException {
+        char decimalSeparator = DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+        try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(Path.of(fileName)), StandardCharsets.UTF_8), IO_BUFFER_SIZE)) {
+            out.write(CSV_HEADER);
+            writeCsvRows(out, "NHL", tracker.getSelectedNHLTeam().getRoster(), decimalSeparator);
+            writeCsvRows(out, "AHL", tracker.getSelectedAHLTeam().getRoster(), decimalSeparator);
+        }
+    }
+
+    /**
+     * Exports both rosters and the team names to an indented JSON file.
+     * @param tracker The tracker whose rosters to export
+     * @param fileName The file to write
+     * @throws IOException if writing fails
+     */
+    public static void exportJson(FranchiseTracker tracker, String fileName) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of(fileName)), IO_BUFFER_SIZE);
+             JsonGenerator gen = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.useDefaultPrettyPrinter();
+            gen.writeStartObject();
+            gen.writeStringField("nhlTeam", tracker.getSelectedNHLTeam().getName());
+            gen.writeStringField("ahlTeam", tracker.getSelectedAHLTeam().getName());
+            writeJsonRoster(gen, "nhlRoster", tracker.getSelectedNHLTeam().getRoster());
+            writeJsonRoster(gen, "ahlRoster", tracker.getSelectedAHLTeam().getRoster());
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeCsvRows(Writer out, String league, List<Player> roster, char decimalSeparator) throws IOException {
+        if (roster == null) {
+            return;
+        }
+        for (Player p : roster) {
+            double aav = p.getContract() != null ? p.getContract().getAav() : 0;
+            int years = p.getContract() != null ? p.getContract().getTermInYears() : 0;
+
+            out.write(league);
+            out.write(',');
+            writeCsvField(out, String.valueOf(p.getFirstName()));
+            out.write(',');
+            writeCsvField(out, String.valueOf(p.getLastName()));
+            out.write(',');
+            out.write(p.getPosition() != null ? p.getPosition().name() : "");
+            out.write(',');
+            out.write(Integer.toString(p.getOverall()));
+            out.write(',');
+            out.write(Integer.toString(p.getAge()));
+            out.write(',');
+            out.write(p.getPotential() != null ? p.getPotential().name() : "");
+            out.write(',');
+            writeFixed2(out, aav, decimalSeparator);
+            out.write(',');
+            out.write(Integer.toString(years));
+            out.write(',');
+            out.write(p.getContract() != null && p.getContract().getStatus() != null ? p.getContract().getStatus().name() : "");
+            out.write('\n');
+        }
+    }
+
+    private static void writeJsonRoster(JsonGenerator gen, String name, List<Player> roster) throws IOException {
+        gen.writeFieldName(name);
+        if (roster == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartArray();
+        for (Player player : roster) {
+            mapper.writeValue(gen, player);
+        }
+        gen.writeEndArray();
+    }
+
+    /**
+     * Writes a text field, quoting it only if it contains a separator, quote or line break.
+     */
+    private static void writeCsvField(Writer out, String value) throws IOException {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    /**
+     * Writes a value with exactly two decimals, producing the same text as {@code String.format("%.2f", value)}:
+     * half-up rounding of the shortest decimal form of the double, and a sign on negative zero.
+     */
+    static void writeFixed2(Writer out, double value, char decimalSeparator) throws IOException {
+        if (!Double.isFinite(value)) {
+            out.write(String.format("%.2f", value));
+            return;
+        }
+        boolean negative = Double.compare(value, 0.0) < 0;
+        double magnitude = Math.abs(value);
+        long cents;
+        double scaled = magnitude * 100.0;
+        double fraction = scaled - Math.floor(scaled);
+        if (scaled < 1e15 && Math.abs(fraction - 0.5) > 1e-6) {
+            // Far enough from a tie that rounding the binary value agrees with rounding its decimal form
+            cents = Math.round(scaled);
+        } else {
+            BigDecimal exact = BigDecimal.valueOf(magnitude).setScale(2, RoundingMode.HALF_UP);
+            if (exact.compareTo(BigDecimal.valueOf(Long.MAX_VALUE / 100)) > 0) {
+                out.write(String.format("%.2f", value));
+                return;
+            }
+            cents = exact.movePointRight(2).longValueExact();
+        }
+        if (negative) {
+            out.write('-');
+        }
+        out.write(Long.toString(cents / 100));
+        out.write(decimalSeparator);
+        long remainder = cents % 100;
+        if (remainder < 10) {
+            out.write('0');
+        }
+        out.write(Long.toString(remainder));
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.loafabreadly.franchisetracker.model.SaveManifest;
+import lombok.Data;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+/**
+ * SaveCatalog describes the .nhl saves in a directory for the Load Franchise screen.
+ * <p>
+ * Each save is described by the manifest at the start of the file, so a save is never loaded just to be
+ * listed. Manifests are cached by file size and modification time, in memory and in a small catalog file
+ * beside the saves, so saves that have not changed since they were last listed are not opened at all.
+ */
+public class SaveCatalog {
+    public static final String CATALOG_FILE = ".nhl-catalog.json";
+    private static final String SAVE_EXTENSION = ".nhl";
+
+    private static final Logger logger = LogManager.getLogger(SaveCatalog.class);
+    // The atomic writer owns the stream and must fsync it before it is closed
+    private static final ObjectMapper mapper = new ObjectMapper().configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+    private static final Map<Path, Map<String, Entry>> cache = new HashMap<>();
+
+    private SaveCatalog() {
+    }
+
+    /**
+     * Lists the saves in a directory, reading manifests only for saves that are new or have changed.
+     * @param directory The directory to scan
+     * @return One entry per save, sorted by file name
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Entry> scan(Path directory) throws IOException {
+        Path key = directory.toAbsolutePath().normalize();
+        Map<String, Entry> known = cache.computeIfAbsent(key, SaveCatalog::readCatalogFile);
+
+        Map<String, Entry> current = new TreeMap<>();
+        boolean changed = false;
+        try (DirectoryStream<Path> saves = Files.newDirectoryStream(key, "*" + SAVE_EXTENSION)) {
+            for (Path save : saves) {
+                BasicFileAttributes attributes = Files.readAttributes(save, BasicFileAttributes.class);
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                String fileName = save.getFileName().toString();
+                long size = attributes.size();
+                long lastModified = attributes.lastModifiedTime().toMillis();
+                Entry entry = known.get(fileName);
+                if (entry == null || entry.getSize() != size || entry.getLastModified() != lastModified) {
+                    entry = describe(save, fileName, size, lastModified);
+                    changed = true;
+                }
+                current.put(fileName, entry);
+            }
+        }
+        changed |= !current.keySet().equals(known.keySet());
+
+        cache.put(key, current);
+        if (changed) {
+            writeCatalogFile(key, current);
+        }
+        return new ArrayList<>(current.values());
+    }
+
+    private static Entry describe(Path save, String fileName, long size, long lastModified) {
+        Entry entry = new Entry();
+        entry.setFileName(fileName);
+        entry.setSize(size);
+        entry.setLastModified(lastModified);
+        try {
+            entry.setManifest(FranchiseDataService.readManifest(save.toString()));
+        } catch (IOException e) {
+            logger.warn("Unable to read the manifest of " + save, e);
+            entry.setUnreadable(true);
+        }
+        return entry;
+    }
+
+    private static Map<String, Entry> readCatalogFile(Path directory) {
+        Path file = directory.resolve(CATALOG_FILE);
+        if (!Files.isRegularFile(file)) {
+            return new HashMap<>();
+        }
+        try {
+            return mapper.readValue(file.toFile(), new TypeReference<HashMap<String, Entry>>() { });
+        } catch (IOException e) {
+            // The catalog is only a cache; rebuild it from the saves
+            logger.warn("Ignoring unreadable save catalog " + file, e);
+            return new HashMap<>();
+        }
+    }
+
+    private static void writeCatalogFile(Path directory, Map<String, Entry> entries) {
+        try {
+            FranchiseDataService.writeAtomically(directory.resolve(CATALOG_FILE), out -> mapper.writeValue(out, entries));
+        } catch (IOException e) {
+            logger.warn("Unable to update the save catalog in " + directory, e);
+        }
+    }
+
+    /**
+     * One save in the catalog.
+     */
+    @Data
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Entry {
+        private String fileName;
+        private long size;
+        private long lastModified;
+        // Null for saves written before manifests existed
+        private SaveManifest manifest;
+        private boolean unreadable;
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * SaveFormat enumerates the on-disk encodings of a .nhl save file.
+ * Both formats hold the same document, so the format is never part of the file name; it is
+ * detected from the first bytes of the file instead.
+ */
+public enum SaveFormat {
+    /** Plain UTF-8 JSON, readable and hand-editable. */
+    JSON(new JsonFactory()),
+    /**
+     * Jackson Smile, a binary JSON encoding. Repeated field names, enum names and player names
+     * are written once and then referenced by back-pointer, which keeps large franchises small.
+     */
+    SMILE(SmileFactory.builder()
+        .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+        .build());
+
+    // Every Smile document starts with ":)\n"
+    private static final byte[] SMILE_HEADER = { ':', ')', '\n' };
+
+    private final ObjectMapper mapper;
+
+    SaveFormat(JsonFactory factory) {
+        // Element-level writes must not flush the underlying stream after every list entry
+        // Strings pass through a StringPool when the read carries one (see StringPool#reader)
+        this.mapper = new ObjectMapper(factory)
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .registerModule(new SimpleModule().addDeserializer(String.class, new StringPool.Deserializer()));
+    }
+
+    /**
+     * @return The mapper that reads and writes this format
+     */
+    ObjectMapper mapper() {
+        return mapper;
+    }
+
+    /**
+     * @return The bytes written before each season segment of a segmented save; JSON puts each on its own line
+     */
+    byte[] segmentSeparator() {
+        return this == JSON ? new byte[] { '\n' } : new byte[0];
+    }
+
+    /**
+     * @return The number of leading bytes needed by {@link #detect}
+     */
+    static int headerLength() {
+        return SMILE_HEADER.length;
+    }
+
+    /**
+     * Detects the format of a save from its leading bytes.
+     * @param header The first bytes of the file
+     * @param length The number of valid bytes in header
+     * @return The detected format; anything that is not Smile is treated as JSON
+     */
+    static SaveFormat detect(byte[] header, int length) {
+        if (length < SMILE_HEADER.length) {
+            return JSON;
+        }
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (header[i] != SMILE_HEADER[i]) {
+                return JSON;
+            }
+        }
+        return SMILE;
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.github.loafabreadly.franchisetracker.model.SeasonSnapshot;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SeasonSegment is one season body waiting to be written to a segmented save. Bodies that are already in
+ * a save of the same format are copied byte for byte from it; all others are encoded when captured, so a
+ * captured list can be written from any thread. Once written, the save's segments can be reopened with
+ * {@link #openWritten}, so the next save copies those bodies too.
+ */
+final class SeasonSegment {
+    private final byte[] encoded;
+    private final SeasonSegmentStore source;
+    private final SeasonSnapshot snapshot;
+    private final long offset;
+    private final int length;
+
+    private SeasonSegment(byte[] encoded, SeasonSegmentStore source, SeasonSnapshot snapshot, long offset, int length) {
+        this.encoded = encoded;
+        this.source = source;
+        this.snapshot = snapshot;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Lays out the bodies of a season history. Must be called from the thread that owns the tracker.
+     * @param history The season history in archive order
+     * @param source The save the history was loaded from, or null
+     * @param format The format being written
+     * @return One segment per season, with offsets relative to the start of the segment region
+     * @throws IOException if a body cannot be encoded
+     */
+    static List<SeasonSegment> capture(List<SeasonSnapshot> history, SeasonSegmentStore source, SaveFormat format) throws IOException {
+        List<SeasonSegment> segments = new ArrayList<>(history != null ? history.size() : 0);
+        if (history == null) {
+            return segments;
+        }
+        long offset = 0;
+        int separator = format.segmentSeparator().length;
+        boolean copyable = source != null && source.getFormat() == format;
+        for (SeasonSnapshot snapshot : history) {
+            offset += separator;
+            SeasonSegment segment;
+            if (copyable && source.contains(snapshot)) {
+                segment = new SeasonSegment(null, source, snapshot, offset, source.lengthOf(snapshot));
+            } else {
+                byte[] encoded = format.mapper().writeValueAsBytes(snapshot.bodyView());
+                segment = new SeasonSegment(encoded, null, snapshot, offset, encoded.length);
+            }
+            segments.add(segment);
+            offset += segment.length;
+        }
+        return segments;
+    }
+
+    /**
+     * Writes the segment region that follows the main document.
+     * @param segments The segments, as captured
+     * @param format The format being written
+     * @param out The stream positioned just past the main document
+     * @throws IOException if writing fails
+     */
+    static void writeAll(List<SeasonSegment> segments, SaveFormat format, OutputStream out) throws IOException {
+        byte[] separator = format.segmentSeparator();
+        for (SeasonSegment segment : segments) {
+            out.write(separator);
+            if (segment.encoded != null) {
+                out.write(segment.encoded);
+            } else {
+                segment.source.copyTo(segment.snapshot, out);
+            }
+        }
+    }
+
+    /**
+     * Opens the segments of a save that was just written from the given segments. Safe to call from any
+     * thread; the store must be attached on the thread that owns the tracker.
+     * @param file The save file
+     * @param segments The segments written to it, as captured
+     * @param format The format they were written in
+     * @param strings The pool bodies read later are deduplicated into
+     * @return The opened store, or null if no seasons were written
+     * @throws IOException if the file cannot be opened
+     */
+    static SeasonSegmentStore openWritten(Path file, List<SeasonSegment> segments, SaveFormat format, StringPool strings) throws IOException {
+        if (segments.isEmpty()) {
+            return null;
+        }
+        List<SeasonSnapshot> headers = new ArrayList<>(segments.size());
+        List<SeasonSegmentStore.SegmentRef> refs = new ArrayList<>(segments.size());
+        for (SeasonSegment segment : segments) {
+            headers.add(segment.snapshot);
+            refs.add(new SeasonSegmentStore.SegmentRef(segment.offset, segment.length));
+        }
+        return SeasonSegmentStore.openWritten(file, format, strings, headers, refs);
+    }
+
+    /**
+     * @return Where this segment starts within the segment region
+     */
+    long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return The segment's length in bytes
+     */
+    int getLength() {
+        return length;
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.loafabreadly.franchisetracker.model.SeasonSnapshot;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SeasonSegmentStore serves season bodies out of a segmented save file.
+ * <p>
+ * A segmented save keeps each season's rosters, pick inventory and delta in its own segment after the main
+ * document, which records every segment's offset and length. Loading a franchise reads only the main
+ * document; a season body is read with one positional read when a screen first asks for it. At most
+ * {@value #CACHE_SIZE} bodies stay loaded, and the least recently used is released when another is read.
+ * <p>
+ * The file stays open until the store is closed. Saves replace the file by renaming a new one over it,
+ * so the store keeps reading the segments it was opened with. After each save the tracker moves on to a
+ * store over the file just written, so seasons archived since the load are encoded only once.
+ */
+public class SeasonSegmentStore implements SeasonSnapshot.BodyLoader, Closeable {
+    // Larger than a keyframe interval, so rebuilding one delta chain never releases part of itself
+    static final int CACHE_SIZE = 16;
+
+    private final FileChannel channel;
+    private final SaveFormat format;
+    private final StringPool strings;
+    private final ObjectReader reader;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final Map<SeasonSnapshot, Integer> indexes = new IdentityHashMap<>();
+    private final LinkedHashMap<Integer, SeasonSnapshot> loaded = new LinkedHashMap<>(CACHE_SIZE * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, SeasonSnapshot> eldest) {
+            if (size() > CACHE_SIZE) {
+                eldest.getValue().releaseBody();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private SeasonSegmentStore(FileChannel channel, SaveFormat format, StringPool strings, long[] offsets, int[] lengths) {
+        this.channel = channel;
+        this.format = format;
+        this.strings = strings;
+        this.reader = strings.reader(format.mapper()).forType(SeasonSnapshot.class);
+        this.offsets = offsets;
+        this.lengths = lengths;
+    }
+
+    /**
+     * Opens the segments of a save and defers every season's body to them.
+     * @param file The save file
+     * @param format The save's format
+     * @param strings The pool the rest of the save was read into, which bodies are deduplicated against
+     * @param regionStart The file offset where the segments begin, just past the main document
+     * @param headers The season headers, in the same order as the segments
+     * @param segments Each segment's offset within the region and its length
+     * @return The opened store
+     * @throws IOException if the file cannot be opened or is shorter than the index says
+     */
+    static SeasonSegmentStore open(Path file, SaveFormat format, StringPool strings, long regionStart,
+                                   List<SeasonSnapshot> headers, List<SegmentRef> segments) throws IOException {
+        SeasonSegmentStore store = map(file, format, strings, regionStart, headers, segments);
+        store.attach();
+        return store;
+    }
+
+    /**
+     * Opens the segments of a save that was just written, without touching its seasons yet. The segments
+     * are the last thing in the file, so where they begin follows from the file's size. Safe to call from
+     * any thread; call {@link #attach} on the thread that owns the seasons before using the store.
+     * @param file The save file
+     * @param format The save's format
+     * @param strings The pool bodies are deduplicated into
+     * @param headers The seasons written, in the same order as the segments
+     * @param segments Each segment's offset within the region and its length
+     * @return The opened store
+     * @throws IOException if the file cannot be opened or does not hold the segments
+     */
+    static SeasonSegmentStore openWritten(Path file, SaveFormat format, StringPool strings,
+                                          List<SeasonSnapshot> headers, List<SegmentRef> segments) throws IOException {
+        SegmentRef last = segments.get(segments.size() - 1);
+        long regionStart = Files.size(file) - (last.offset + last.length);
+        if (regionStart < 0) {
+            throw new IOException("Save file is shorter than its season segments");
+        }
+        return map(file, format, strings, regionStart, headers, segments);
+    }
+
+    /**
+     * Defers every season stored here to this store, dropping the bodies they hold in memory.
+     * Must be called from the thread that owns the seasons.
+     */
+    void attach() {
+        for (SeasonSnapshot header : indexes.keySet()) {
+            header.deferBody(this);
+        }
+    }
+
+    private static SeasonSegmentStore map(Path file, SaveFormat format, StringPool strings, long regionStart,
+                                          List<SeasonSnapshot> headers, List<SegmentRef> segments) throws IOException {
+        if (headers.size() != segments.size()) {
+            throw new IOException("Save file lists " + segments.size() + " season segments for " + headers.size() + " seasons");
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long[] offsets = new long[segments.size()];
+            int[] lengths = new int[segments.size()];
+            long size = channel.size();
+            for (int i = 0; i < segments.size(); i++) {
+                SegmentRef ref = segments.get(i);
+                offsets[i] = regionStart + ref.offset;
+                lengths[i] = ref.length;
+                if (ref.offset < 0 || ref.length < 0 || offsets[i] + lengths[i] > size) {
+                    throw new IOException("Season segment " + i + " lies outside the save file");
+                }
+            }
+            SeasonSegmentStore store = new SeasonSegmentStore(channel, format, strings, offsets, lengths);
+            for (int i = 0; i < headers.size(); i++) {
+                store.indexes.put(headers.get(i), i);
+            }
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public SeasonSnapshot loadBody(SeasonSnapshot header) {
+        int index = indexOf(header);
+        try {
+            SeasonSnapshot body = reader.readValue(read(index));
+            loaded.put(index, header);
+            return body;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load season " + header.getSeason() + " from the save file", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * @return The format the segments are encoded in
+     */
+    SaveFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @return The pool the store's bodies are deduplicated into
+     */
+    StringPool getStrings() {
+        return strings;
+    }
+
+    /**
+     * Checks whether a snapshot's body is stored in this save.
+     */
+    boolean contains(SeasonSnapshot snapshot) {
+        return indexes.containsKey(snapshot);
+    }
+
+    /**
+     * @return The length in bytes of a snapshot's stored body
+     */
+    int lengthOf(SeasonSnapshot snapshot) {
+        return lengths[indexOf(snapshot)];
+    }
+
+    /**
+     * Copies a snapshot's stored body, unchanged, to another stream. Safe to call from any thread.
+     * @param snapshot The snapshot
+     * @param out The stream to copy to
+     * @throws IOException if reading or writing fails
+     */
+    void copyTo(SeasonSnapshot snapshot, OutputStream out) throws IOException {
+        out.write(read(indexOf(snapshot)));
+    }
+
+    private int indexOf(SeasonSnapshot snapshot) {
+        Integer index = indexes.get(snapshot);
+        if (index == null) {
+            throw new IllegalArgumentException("Season " + snapshot.getSeason() + " is not stored in this save");
+        }
+        return index;
+    }
+
+    private byte[] read(int index) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(lengths[index]);
+        long position = offsets[index];
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Save file ends inside season segment " + index);
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Where one season's segment lies within the segment region, as recorded in the save's index.
+     */
+    static final class SegmentRef {
+        private final long offset;
+        private final int length;
+
+        SegmentRef(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
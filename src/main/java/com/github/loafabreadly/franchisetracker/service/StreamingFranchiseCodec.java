@@ -0,0 +1,232 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.loafabreadly.franchisetracker.FranchiseTracker;
+import com.github.loafabreadly.franchisetracker.model.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * StreamingFranchiseCodec writes and reads a FranchiseTracker section by section using the Jackson
+ * streaming API. Each list element is bound on its own, so neither side ever holds a tree of the whole
+ * file in memory. The large sections (teams, draft picks, trades and season history) are written last,
+ * with season history at the very end of the document.
+ * <p>
+ * Season history is segmented: the document holds each season's header plus a {@code seasonSegments}
+ * index, and the season bodies follow the document as separate segments (see {@link SeasonSegment}).
+ * Older saves with whole seasons inline in {@code seasonHistory} are still read.
+ */
+final class StreamingFranchiseCodec {
+
+    static final String MANIFEST_FIELD = "manifest";
+
+    private StreamingFranchiseCodec() {
+    }
+
+    /**
+     * Writes the tracker's main document as a single JSON object to the given generator. The season bodies
+     * described by the segments must be written after it with {@link SeasonSegment#writeAll}.
+     * @param tracker The tracker to write
+     * @param gen The generator to write to
+     * @param mapper The mapper used to bind individual elements
+     * @param segments The captured season bodies, one per season in the history
+     * @throws IOException if writing fails
+     */
+    static void write(FranchiseTracker tracker, JsonGenerator gen, ObjectMapper mapper, List<SeasonSegment> segments) throws IOException {
+        gen.writeStartObject();
+        // Always the first field, so the summary can be read without parsing the rest of the file
+        gen.writeFieldName(MANIFEST_FIELD);
+        mapper.writeValue(gen, manifestOf(tracker));
+        gen.writeNumberField("currentSeason", tracker.getCurrentSeason());
+        gen.writeStringField("generalManagerName", tracker.getGeneralManagerName());
+        gen.writeNumberField("capCeiling", tracker.getCapCeiling());
+        gen.writeNumberField("capFloor", tracker.getCapFloor());
+        gen.writeBooleanField("franchiseCompleted", tracker.isFranchiseCompleted());
+        gen.writeNumberField("franchiseCompletedSeason", tracker.getFranchiseCompletedSeason());
+        gen.writeNumberField("nextPlayerId", tracker.getNextPlayerId());
+
+        gen.writeFieldName("teamStats");
+        mapper.writeValue(gen, tracker.getTeamStats());
+
+        writeSection(gen, mapper, "playerStats", tracker.getPlayerStats());
+        writeSection(gen, mapper, "leagueAwards", tracker.getLeagueAwards());
+        writeSection(gen, mapper, "futureDraftPicks", tracker.getFutureDraftPicks());
+        writeSection(gen, mapper, "teams", tracker.getTeams());
+        writeSection(gen, mapper, "draftPicks", tracker.getDraftPicks());
+        writeSection(gen, mapper, "trades", tracker.getTrades());
+        writeSection(gen, mapper, "careerTotals", tracker.getLeadersIndex().getTotals());
+        gen.writeArrayFieldStart("seasonSegments");
+        for (SeasonSegment segment : segments) {
+            gen.writeStartObject();
+            gen.writeNumberField("offset", segment.getOffset());
+            gen.writeNumberField("length", segment.getLength());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("seasonHistory");
+        if (tracker.getSeasonHistory() != null) {
+            for (SeasonSnapshot snapshot : tracker.getSeasonHistory()) {
+                mapper.writeValue(gen, snapshot.headerView());
+            }
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    /**
+     * Reads a tracker from the given parser. Accepts both the compact layout written by
+     * {@link #write} and older indented saves produced by a whole-graph ObjectMapper dump.
+     * Only the main document is read; season bodies are left in the file and loaded on demand.
+     * @param parser The parser positioned before the root object, at the start of the file
+     * @param file The file being parsed, which season bodies are read from later
+     * @param format The file's format
+     * @param strings The pool that names and other repeated strings are deduplicated into, here and in
+     *                season bodies loaded later
+     * @return The loaded tracker
+     * @throws IOException if the input is malformed or reading fails
+     */
+    static FranchiseTracker read(JsonParser parser, Path file, SaveFormat format, StringPool strings) throws IOException {
+        ObjectReader reader = strings.reader(format.mapper());
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Save file does not start with a JSON object");
+        }
+
+        FranchiseTracker tracker = new FranchiseTracker();
+        boolean hasCareerTotals = false;
+        List<SeasonSegmentStore.SegmentRef> segments = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "currentSeason" -> tracker.setCurrentSeason(parser.getValueAsInt());
+                case "generalManagerName" -> tracker.setGeneralManagerName(parser.getValueAsString());
+                case "capCeiling" -> tracker.setCapCeiling(parser.getValueAsDouble());
+                case "capFloor" -> tracker.setCapFloor(parser.getValueAsDouble());
+                case "franchiseCompleted" -> tracker.setFranchiseCompleted(parser.getValueAsBoolean());
+                case "franchiseCompletedSeason" -> tracker.setFranchiseCompletedSeason(parser.getValueAsInt());
+                case "nextPlayerId" -> tracker.setNextPlayerId(parser.getValueAsLong());
+                case "teamStats" -> tracker.setTeamStats(reader.readValue(parser, TeamSeasonStats.class));
+                case "playerStats" -> tracker.setPlayerStats(readSection(parser, reader, TeamSeasonStats.class));
+                case "leagueAwards" -> tracker.setLeagueAwards(readSection(parser, reader, Award.class));
+                case "futureDraftPicks" -> tracker.setFutureDraftPicks(readSection(parser, reader, DraftPick.class));
+                case "teams" -> tracker.setTeams(readSection(parser, reader, Team.class));
+                case "draftPicks" -> tracker.setDraftPicks(readSection(parser, reader, DraftedPlayer.class));
+                case "trades" -> tracker.setTrades(readSection(parser, reader, Trade.class));
+                case "careerTotals" -> {
+                    tracker.getLeadersIndex().load(readSection(parser, reader, CareerTotals.class));
+                    hasCareerTotals = true;
+                }
+                case "seasonSegments" -> segments = readSegmentRefs(parser);
+                case "seasonHistory" -> tracker.setSeasonHistory(readSection(parser, reader, SeasonSnapshot.class));
+                // Only the checkpoint id is taken from the manifest; the rest is derived from the save
+                case MANIFEST_FIELD -> tracker.setCheckpointId(reader.readValue(parser, SaveManifest.class).getCheckpointId());
+                // Older saves also carry derived getters (allPlayers, prospects, ...) and duplicate copies of
+                // the selected teams; those are rebuilt after load, so skip them unread.
+                default -> parser.skipChildren();
+            }
+        }
+        if (segments != null) {
+            // The segments start right after the document's closing token
+            long regionStart = parser.currentLocation().getByteOffset();
+            if (regionStart < 0) {
+                throw new IOException("Unable to locate the season segments in the save file");
+            }
+            tracker.setSeasonSegments(SeasonSegmentStore.open(file, format, strings, regionStart,
+                                                             tracker.getSeasonHistory(), segments));
+        }
+        // Links delta-encoded seasons to their predecessors and compacts histories from older saves
+        SeasonSnapshot.compactHistory(tracker.getSeasonHistory());
+        if (!hasCareerTotals) {
+            tracker.getLeadersIndex().rebuild(tracker.getSeasonHistory());
+        }
+        return tracker;
+    }
+
+    /**
+     * Reads only the manifest at the start of a save.
+     * @param parser The parser positioned before the root object
+     * @param mapper The mapper used to bind the manifest
+     * @return The manifest, or null for saves written before manifests existed
+     * @throws IOException if the input is malformed or reading fails
+     */
+    static SaveManifest readManifest(JsonParser parser, ObjectMapper mapper) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Save file does not start with a JSON object");
+        }
+        if (parser.nextToken() != JsonToken.FIELD_NAME || !MANIFEST_FIELD.equals(parser.currentName())) {
+            return null;
+        }
+        parser.nextToken();
+        return mapper.readValue(parser, SaveManifest.class);
+    }
+
+    private static SaveManifest manifestOf(FranchiseTracker tracker) {
+        SaveManifest manifest = new SaveManifest();
+        manifest.setNhlTeam(tracker.getSelectedNHLTeam() != null ? tracker.getSelectedNHLTeam().getName() : null);
+        manifest.setAhlTeam(tracker.getSelectedAHLTeam() != null ? tracker.getSelectedAHLTeam().getName() : null);
+        manifest.setGeneralManagerName(tracker.getGeneralManagerName());
+        manifest.setCurrentSeason(tracker.getCurrentSeason());
+        manifest.setSeasonsArchived(tracker.getSeasonHistory() != null ? tracker.getSeasonHistory().size() : 0);
+        manifest.setStanleyCups(tracker.getStanleyCupCount());
+        manifest.setFranchiseCompleted(tracker.isFranchiseCompleted());
+        manifest.setSavedAt(System.currentTimeMillis());
+        manifest.setCheckpointId(tracker.getCheckpointId());
+        return manifest;
+    }
+
+    private static void writeSection(JsonGenerator gen, ObjectMapper mapper, String name, Collection<?> items) throws IOException {
+        gen.writeArrayFieldStart(name);
+        if (items != null) {
+            for (Object item : items) {
+                mapper.writeValue(gen, item);
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    private static List<SeasonSegmentStore.SegmentRef> readSegmentRefs(JsonParser parser) throws IOException {
+        List<SeasonSegmentStore.SegmentRef> refs = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return refs;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            long offset = -1;
+            int length = -1;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "offset" -> offset = parser.getValueAsLong(-1);
+                    case "length" -> length = parser.getValueAsInt(-1);
+                    default -> parser.skipChildren();
+                }
+            }
+            refs.add(new SeasonSegmentStore.SegmentRef(offset, length));
+        }
+        return refs;
+    }
+
+    private static <T> List<T> readSection(JsonParser parser, ObjectReader reader, Class<T> type) throws IOException {
+        List<T> items = new ArrayList<>();
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return items;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            items.add(reader.readValue(parser, type));
+        }
+        return items;
+    }
+}
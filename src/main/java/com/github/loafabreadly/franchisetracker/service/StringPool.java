@@ -0,0 +1,102 @@
+package com.github.loafabreadly.franchisetracker.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * StringPool deduplicates the short strings read from one save: player names repeated in every archived
+ * roster, team names, and the asset descriptions repeated across trades. Each distinct value is kept once
+ * and every later copy is replaced by it, so the parsed copies can be collected straight away.
+ * <p>
+ * A pool is attached to the readers returned by {@link #reader}; the mappers of every {@link SaveFormat}
+ * route string values through it when one is present. Long strings such as trade notes are rarely
+ * repeated and are left alone. Not thread-safe; a pool belongs to the thread that owns the tracker.
+ */
+final class StringPool {
+    private static final Object ATTRIBUTE = StringPool.class;
+    private static final int MAX_POOLED_LENGTH = 64;
+    // Rough footprint of a String beyond its characters: the object plus its backing array's header
+    private static final int STRING_OVERHEAD_BYTES = 40;
+
+    private final Map<String, String> pool = new HashMap<>();
+    private final JsonNodeFactory nodeFactory = new PooledNodeFactory();
+    private long duplicates;
+    private long bytesSaved;
+
+    /**
+     * Returns the pooled copy of a string, pooling it if it is the first of its value.
+     * @param value The string just read, or null
+     * @return An equal string shared by every caller
+     */
+    String intern(String value) {
+        if (value == null || value.length() > MAX_POOLED_LENGTH) {
+            return value;
+        }
+        String pooled = pool.putIfAbsent(value, value);
+        if (pooled == null) {
+            return value;
+        }
+        duplicates++;
+        bytesSaved += STRING_OVERHEAD_BYTES + value.length();
+        return pooled;
+    }
+
+    /**
+     * @return A reader for the mapper that pools strings, both in bound objects and in trees, into this pool
+     */
+    ObjectReader reader(ObjectMapper mapper) {
+        return mapper.reader().withAttribute(ATTRIBUTE, this).with(nodeFactory);
+    }
+
+    /**
+     * @return How many duplicate strings have been replaced by a pooled copy
+     */
+    long getDuplicates() {
+        return duplicates;
+    }
+
+    /**
+     * @return The estimated heap, in bytes, no longer held by the replaced copies
+     */
+    long getBytesSaved() {
+        return bytesSaved;
+    }
+
+    /**
+     * @return How many distinct strings the pool holds
+     */
+    int size() {
+        return pool.size();
+    }
+
+    /**
+     * Reads strings as usual, then swaps them for the pooled copy when the read carries a pool.
+     */
+    static final class Deserializer extends StringDeserializer {
+        @Override
+        public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            String value = super.deserialize(p, ctxt);
+            Object pool = ctxt.getAttribute(ATTRIBUTE);
+            return pool instanceof StringPool ? ((StringPool) pool).intern(value) : value;
+        }
+    }
+
+    /**
+     * Pools the text of tree nodes, which the season deltas are read as.
+     */
+    private final class PooledNodeFactory extends JsonNodeFactory {
+        @Override
+        public TextNode textNode(String text) {
+            return super.textNode(intern(text));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.loafabreadly.franchisetracker.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    @Test
+    void prefixDistanceIsZeroForAPrefix() {
+        assertEquals(0, NameIndex.prefixDistance("mcda", "mcdavid", 1));
+        assertEquals(0, NameIndex.prefixDistance("mcdavid", "mcdavid", 2));
+    }
+
+    @Test
+    void prefixDistanceCountsEachKindOfEdit() {
+        assertEquals(1, NameIndex.prefixDistance("mcdx", "mcdavid", 1));
+        assertEquals(1, NameIndex.prefixDistance("mcdaa", "mcdavid", 1));
+        assertEquals(1, NameIndex.prefixDistance("mdav", "mcdavid", 1));
+        assertEquals(1, NameIndex.prefixDistance("mcadvid", "mcdavid", 1));
+        assertEquals(2, NameIndex.prefixDistance("mcadvod", "mcdavid", 2));
+    }
+
+    @Test
+    void prefixDistanceStopsPastTheLimit() {
+        assertEquals(2, NameIndex.prefixDistance("crosby", "mcdavid", 1));
+        assertEquals(3, NameIndex.prefixDistance("crosby", "mcdavid", 2));
+    }
+
+    @Test
+    void prefixDistanceHandlesTermsShorterThanTheWord() {
+        assertEquals(1, NameIndex.prefixDistance("kanes", "kane", 1));
+        assertEquals(2, NameIndex.prefixDistance("kaness", "kane", 1));
+    }
+
+    @Test
+    void searchFindsShortWordsWithATypo() {
+        NameIndex index = new NameIndex();
+        index.add(1, "Patrick", "Kane");
+        index.add(2, "Evander", "Kane");
+        index.add(3, "Connor", "McDavid");
+        assertEquals(List.of(1L, 2L), index.search("akne").stream().sorted().toList());
+        assertEquals(List.of(3L), List.copyOf(index.search("mcdvaid")));
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    void searchRanksPrefixMatchesFirst() {
+        NameIndex index = new NameIndex();
+        index.add(1, "Jamie", "Benn");
+        index.add(2, "Sam", "Bennett");
+        index.add(3, "Jordie", "Benn");
+        List<Long> found = List.copyOf(index.search("benne"));
+        assertEquals(3, found.size());
+        assertEquals(2L, (long) found.get(0));
+        assertEquals(List.of(2L), List.copyOf(index.search("sam benn")));
+    }
+}
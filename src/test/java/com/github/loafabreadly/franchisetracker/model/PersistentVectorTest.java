@@ -0,0 +1,132 @@
+package com.github.loafabreadly.franchisetracker.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentVectorTest {
+    // Empty, around a full tail, around a full first trie level and past a second level
+    private static final int[] SIZES = { 0, 1, 31, 32, 33, 1024, 1025, 32 * 32 + 33 };
+
+    @Test
+    void plusMatchesArrayListAndKeepsEveryEarlierVector() {
+        int largest = SIZES[SIZES.length - 1];
+        List<PersistentVector<Integer>> versions = new ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        versions.add(vector);
+        for (int i = 0; i < largest; i++) {
+            vector = vector.plus(i);
+            versions.add(vector);
+        }
+        for (int size = 0; size <= largest; size++) {
+            assertEquals(expected(size), versions.get(size), "size " + size);
+        }
+    }
+
+    @Test
+    void withReplacesOneElement() {
+        for (int size : SIZES) {
+            PersistentVector<Integer> original = vectorOf(size);
+            for (int index : indexesOf(size)) {
+                List<Integer> expected = expected(size);
+                expected.set(index, -1);
+                assertEquals(expected, original.with(index, -1), "size " + size + ", index " + index);
+                assertEquals(expected(size), original, "original of size " + size);
+            }
+        }
+    }
+
+    @Test
+    void insertShiftsLaterElements() {
+        for (int size : SIZES) {
+            PersistentVector<Integer> original = vectorOf(size);
+            List<Integer> indexes = new ArrayList<>(indexesOf(size));
+            indexes.add(size);
+            for (int index : indexes) {
+                List<Integer> expected = expected(size);
+                expected.add(index, -1);
+                assertEquals(expected, original.insert(index, -1), "size " + size + ", index " + index);
+                assertEquals(expected(size), original, "original of size " + size);
+            }
+        }
+    }
+
+    @Test
+    void minusRemovesOneElement() {
+        for (int size : SIZES) {
+            PersistentVector<Integer> original = vectorOf(size);
+            for (int index : indexesOf(size)) {
+                List<Integer> expected = expected(size);
+                expected.remove(index);
+                PersistentVector<Integer> shorter = original.minus(index);
+                assertEquals(expected, shorter, "size " + size + ", index " + index);
+                assertEquals(expected(size), original, "original of size " + size);
+                // The shorter vector must still grow correctly from its trimmed tail
+                expected.add(-1);
+                assertEquals(expected, shorter.plus(-1), "size " + size + ", index " + index + ", then plus");
+            }
+        }
+    }
+
+    @Test
+    void changesOnTopOfEachOtherMatchArrayList() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 32 * 32 + 33; i++) {
+            vector = vector.plus(i);
+            expected.add(i);
+            if (i % 7 == 0) {
+                vector = vector.with(i / 2, -i);
+                expected.set(i / 2, -i);
+            }
+            if (i % 97 == 0) {
+                vector = vector.minus(i / 3);
+                expected.remove(i / 3);
+            }
+        }
+        assertEquals(expected, vector);
+    }
+
+    @Test
+    void outOfRangeIndexesAreRejected() {
+        PersistentVector<Integer> vector = vectorOf(33);
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(33));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.with(33, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.insert(34, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> vector.minus(33));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.empty().minus(0));
+    }
+
+    private static PersistentVector<Integer> vectorOf(int size) {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        for (int i = 0; i < size; i++) {
+            vector = vector.plus(i);
+        }
+        return vector;
+    }
+
+    private static List<Integer> expected(int size) {
+        List<Integer> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * @return The first and last index, both sides of every leaf boundary, and the middle
+     */
+    private static List<Integer> indexesOf(int size) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int index : new int[] { 0, 31, 32, 1023, 1024, size / 2, size - 1 }) {
+            if (index >= 0 && index < size && !indexes.contains(index)) {
+                indexes.add(index);
+            }
+        }
+        return indexes;
+    }
+}